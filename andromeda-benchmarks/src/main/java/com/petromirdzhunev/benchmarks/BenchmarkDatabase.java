@@ -0,0 +1,52 @@
+package com.petromirdzhunev.benchmarks;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The locally started PostgreSQL the database benchmarks run against, configured by the
+ * {@code benchmark.database.url}, {@code benchmark.database.username} and {@code benchmark.database.password} system
+ * properties, e.g. {@code docker run -e POSTGRES_PASSWORD=postgres -p 5432:5432 postgres}.
+ * <p>
+ * Every benchmark trial runs in a dedicated schema, created when the database is opened and dropped with its tables
+ * when it's closed, so the benchmarks never touch the other tables of the database.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+	private final String schemaName;
+	private final HikariDataSource dataSource;
+	private final DSLContext db;
+
+	BenchmarkDatabase(final String schemaName) {
+		final HikariConfig config = new HikariConfig();
+		config.setPoolName("benchmarks");
+		config.setJdbcUrl(System.getProperty("benchmark.database.url", "jdbc:postgresql://localhost:5432/postgres"));
+		config.setUsername(System.getProperty("benchmark.database.username", "postgres"));
+		config.setPassword(System.getProperty("benchmark.database.password", "postgres"));
+		// The current schema of every connection, so the benchmarked components see only the benchmark tables
+		config.addDataSourceProperty("currentSchema", schemaName);
+		config.setMaximumPoolSize(2);
+		this.schemaName = schemaName;
+		this.dataSource = new HikariDataSource(config);
+		this.db = DSL.using(dataSource, SQLDialect.POSTGRES);
+		db.dropSchemaIfExists(schemaName).cascade().execute();
+		db.createSchema(schemaName).execute();
+	}
+
+	DSLContext db() {
+		return db;
+	}
+
+	@Override
+	public void close() {
+		try {
+			db.dropSchemaIfExists(schemaName).cascade().execute();
+		} finally {
+			dataSource.close();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jooq.DSLContext;
+
+import com.petromirdzhunev.cucumber.database.GeneratedRows;
+
+/**
+ * The rows of the {@code benchmark_rows} table, covering the numeric, text, timestamp and JSON column types.
+ */
+final class BenchmarkRows {
+
+	static final String TABLE_NAME = "benchmark_rows";
+	static final List<String> COLUMN_NAMES = List.of("id", "name", "amount", "created_at", "payload");
+	private static final List<String> GENERATORS = List.of("sequence", "template(name-{n})", "range(1, 100000)",
+			"timestamp(2024-01-01T00:00:00, 2024-12-31T23:59:59)", "template({\"index\": {n}, \"tags\": [\"a\", \"b\"]})");
+	private static final long SEED = 42;
+
+	private BenchmarkRows() {
+	}
+
+	static void createTable(final DSLContext db) {
+		db.execute("""
+				CREATE TABLE %s (id BIGINT PRIMARY KEY, name TEXT, amount NUMERIC, created_at TIMESTAMP, payload JSONB)
+				""".formatted(TABLE_NAME));
+	}
+
+	static Iterator<List<String>> generate(final int rowsCount) {
+		return new GeneratedRows(rowsCount, GENERATORS, SEED);
+	}
+
+	/**
+	 * @return the rows with the column names as their first row, as written in a feature file data table
+	 */
+	static List<List<String>> dataTableRows(final int rowsCount) {
+		final List<List<String>> rows = new ArrayList<>(rowsCount + 1);
+		rows.add(COLUMN_NAMES);
+		generate(rowsCount).forEachRemaining(rows::add);
+		return rows;
+	}
+}
@@ -0,0 +1,45 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command line options, writing the results as JSON to
+ * {@code target/jmh-result.json} unless another result format or file is given, so they can be tracked over time.
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [JMH options]}, e.g. {@code -p rowsCount=10000 DatabaseSteps}.
+ */
+public final class BenchmarkRunner {
+
+	private static final String RESULT_FILE = "target/jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			options = options.resultFormat(ResultFormatType.JSON);
+		}
+		if (!commandLineOptions.getResult().hasValue()) {
+			options = options.result(RESULT_FILE);
+		}
+
+		final Runner runner = new Runner(options.build());
+		if (commandLineOptions.shouldHelp()) {
+			commandLineOptions.showHelp();
+		} else if (commandLineOptions.shouldList()) {
+			runner.list();
+		} else {
+			runner.run();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLBulkLoader;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTemplate;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLQueryPlanner;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLSchemaMetadata;
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
+import com.petromirdzhunev.cucumber.steps.DatabaseSteps;
+
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+
+/**
+ * Benchmarks the {@link DatabaseSteps} populating a table (batched inserts below the bulk load threshold, {@code COPY}
+ * above it) and comparing the table rows with the expected ones, against a dedicated schema of a local PostgreSQL.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DatabaseStepsBenchmark {
+
+	private static final String SCHEMA_NAME = "benchmark_database_steps";
+	private static final int BULK_LOAD_THRESHOLD = 500;
+
+	@Param({"100", "10000", "100000"})
+	private int rowsCount;
+
+	private BenchmarkDatabase database;
+	private DatabaseSteps databaseSteps;
+	private DataTable rows;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		database = new BenchmarkDatabase(SCHEMA_NAME);
+		BenchmarkRows.createTable(database.db());
+
+		final ObjectMapper objectMapper = new ObjectMapper();
+		final PostgreSQLBulkLoader bulkLoader = new PostgreSQLBulkLoader(database.db(), objectMapper,
+				BULK_LOAD_THRESHOLD);
+		databaseSteps = new DatabaseSteps(database.db(), bulkLoader, new PostgreSQLSchemaMetadata(database.db()),
+				new SqlStatementRecorder(), new PostgreSQLQueryPlanner(database.db(), objectMapper),
+				// The template isolation isn't benchmarked
+				new StaticListableBeanFactory().getBeanProvider(PostgreSQLDatabaseTemplate.class), objectMapper);
+		// The steps read the data table as lists of strings, which requires a converter
+		rows = DataTable.create(BenchmarkRows.dataTableRows(rowsCount),
+				new DataTableTypeRegistryTableConverter(new DataTableTypeRegistry(Locale.ENGLISH)));
+	}
+
+	@Setup(Level.Iteration)
+	public void populateTable() {
+		database.db().truncate(BenchmarkRows.TABLE_NAME).execute();
+		databaseSteps.populateTableWithRecords(BenchmarkRows.TABLE_NAME, rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		// Drops the benchmark schema with its table
+		database.close();
+	}
+
+	@Benchmark
+	public void checkTableContent() {
+		databaseSteps.checkTableContent(BenchmarkRows.TABLE_NAME, rows);
+	}
+
+	@Benchmark
+	public void populateTableWithRecords(final EmptyTable emptyTable) {
+		databaseSteps.populateTableWithRecords(BenchmarkRows.TABLE_NAME, rows);
+	}
+
+	/**
+	 * Empties the table before every insert, outside of the measured time.
+	 */
+	@State(Scope.Thread)
+	public static class EmptyTable {
+
+		@Setup(Level.Invocation)
+		public void truncate(final DatabaseStepsBenchmark benchmark) {
+			benchmark.database.db().truncate(BenchmarkRows.TABLE_NAME).execute();
+		}
+	}
+}
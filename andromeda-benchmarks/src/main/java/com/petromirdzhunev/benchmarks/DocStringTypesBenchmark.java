@@ -0,0 +1,61 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.types.DocStringTypes;
+
+/**
+ * Benchmarks the {@link DocStringTypes} parsing the JSON doc strings of the request and response bodies, from a single
+ * object to an array of objects.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DocStringTypesBenchmark {
+
+	@Param({"1", "100", "10000"})
+	private int objectsCount;
+
+	private DocStringTypes docStringTypes;
+	private String jsonContent;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		docStringTypes = new DocStringTypes(new ObjectMapper());
+		jsonContent = IntStream.range(0, objectsCount)
+		                       .mapToObj("""
+				                       {
+				                         "id": %d,
+				                         "name": "name-%1$d",
+				                         "amount": 12.5,
+				                         "active": true,
+				                         "tags": ["a", "b"]
+				                       }"""::formatted)
+		                       .collect(Collectors.joining(",\n", "[\n", "\n]"));
+	}
+
+	@Benchmark
+	public JsonNode json() {
+		return docStringTypes.json(jsonContent);
+	}
+}
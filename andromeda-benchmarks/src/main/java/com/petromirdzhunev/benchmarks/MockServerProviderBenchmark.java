@@ -0,0 +1,77 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.spring.beans.MockHttpServerWrapper;
+import com.petromirdzhunev.cucumber.spring.context.MockServerProvider;
+
+/**
+ * Benchmarks the {@link MockServerProvider} registering the expectations of a scenario on an in-process MockServer,
+ * one round trip per expectation or batched in a single one.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MockServerProviderBenchmark {
+
+	@Param({"1", "10", "100"})
+	private int expectationsCount;
+
+	@Param({"false", "true"})
+	private boolean batchExpectations;
+
+	private MockHttpServerWrapper httpServer;
+	private MockServerProvider provider;
+	private JsonNode responseBody;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		// Bound on a port chosen by the operating system
+		httpServer = new MockHttpServerWrapper(0);
+		httpServer.start();
+		provider = new MockServerProvider(httpServer, batchExpectations);
+		responseBody = new ObjectMapper().readTree("""
+				{"id": 1, "name": "name", "tags": ["a", "b"]}""");
+	}
+
+	@TearDown(Level.Invocation)
+	public void resetServer() {
+		httpServer.reset();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		httpServer.delegate().stop();
+	}
+
+	@Benchmark
+	public void registerExpectations() {
+		for (int i = 0; i < expectationsCount; i++) {
+			provider.createRequestWithUrlPath("GET", "/benchmark/" + i);
+			provider.setHeaderPair("Authorization", "Bearer token");
+			provider.setQueryParameter("page", String.valueOf(i));
+			provider.setResponse(200, responseBody);
+		}
+		provider.flushExpectations();
+	}
+}
@@ -0,0 +1,82 @@
+package com.petromirdzhunev.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTruncator;
+
+/**
+ * Benchmarks the {@link PostgreSQLDatabaseTruncator} cleaning a schema of N tables, when no table was written since the
+ * previous cleanup and when every table was, against a dedicated schema of a local PostgreSQL.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PostgreSQLDatabaseTruncatorBenchmark {
+
+	private static final String SCHEMA_NAME = "benchmark_truncator";
+	private static final String TABLE_NAME_PREFIX = "benchmark_truncate_";
+
+	@Param({"10", "100"})
+	private int tablesCount;
+
+	private BenchmarkDatabase database;
+	private PostgreSQLDatabaseTruncator truncator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		database = new BenchmarkDatabase(SCHEMA_NAME);
+		for (int i = 0; i < tablesCount; i++) {
+			database.db().execute("CREATE TABLE %s%d (id BIGSERIAL PRIMARY KEY, name TEXT)"
+					.formatted(TABLE_NAME_PREFIX, i));
+		}
+		truncator = new PostgreSQLDatabaseTruncator(database.db());
+		truncator.truncate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		// Drops the benchmark schema with its tables
+		database.close();
+	}
+
+	@Benchmark
+	public void truncateCleanTables() {
+		truncator.truncate();
+	}
+
+	@Benchmark
+	public void truncateWrittenTables(final WrittenTables writtenTables) {
+		truncator.truncate();
+	}
+
+	/**
+	 * Writes a row to every table before every cleanup, outside of the measured time.
+	 */
+	@State(Scope.Thread)
+	public static class WrittenTables {
+
+		@Setup(Level.Invocation)
+		public void write(final PostgreSQLDatabaseTruncatorBenchmark benchmark) {
+			for (int i = 0; i < benchmark.tablesCount; i++) {
+				benchmark.database.db().execute("INSERT INTO %s%d (name) VALUES ('row')".formatted(TABLE_NAME_PREFIX, i));
+			}
+		}
+	}
+}
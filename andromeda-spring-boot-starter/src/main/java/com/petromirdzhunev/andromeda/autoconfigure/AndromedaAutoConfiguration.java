@@ -0,0 +1,21 @@
+package com.petromirdzhunev.andromeda.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.petromirdzhunev.cucumber.spring.beans.ScenarioSetupTimer;
+import com.petromirdzhunev.cucumber.spring.beans.SubsystemStartupTimer;
+
+/**
+ * Auto-configuration of the beans shared by all the subsystems. The subsystems (the HTTP client, the mock HTTP server
+ * and the database) are auto-configured separately, each only when its libraries are on the classpath, and each can
+ * be turned off with its {@code enabled} property, so a suite pays only for the steps it uses. The starter beans are
+ * registered by the auto-configurations alone, so the {@code com.petromirdzhunev.cucumber} package doesn't need to be
+ * component scanned. The auto-configurations live outside of it, so a suite still scanning it doesn't register them as
+ * plain configuration classes, whose conditions would be evaluated ahead of the Spring Boot auto-configurations (e.g.,
+ * the database one before the {@code DSLContext} is defined).
+ */
+@AutoConfiguration
+@Import({ ScenarioSetupTimer.class, SubsystemStartupTimer.class })
+public class AndromedaAutoConfiguration {
+}
@@ -0,0 +1,36 @@
+package com.petromirdzhunev.andromeda.autoconfigure;
+
+import org.jooq.DSLContext;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jooq.JooqAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLBulkLoader;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTemplate;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTruncator;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLQueryPlanner;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLSchemaMetadata;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLSchemaProvisioner;
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
+import com.petromirdzhunev.cucumber.spring.datasource.StatementRecordingDataSourcePostProcessor;
+import com.petromirdzhunev.cucumber.spring.datasource.SwitchableDataSourcePostProcessor;
+
+/**
+ * Auto-configuration of the database cleanup, loading and assertions, configured only when the application has a
+ * jOOQ {@link DSLContext}. The isolation beans are picked by {@code andromeda.database.isolation}.
+ * <p>
+ * Disabled by {@code andromeda.database.enabled=false}.
+ */
+@AutoConfiguration(after = JooqAutoConfiguration.class)
+@ConditionalOnClass(DSLContext.class)
+@ConditionalOnBean(DSLContext.class)
+@ConditionalOnProperty(name = "andromeda.database.enabled", havingValue = "true", matchIfMissing = true)
+@Import({ SqlStatementRecorder.class, StatementRecordingDataSourcePostProcessor.class,
+		SwitchableDataSourcePostProcessor.class, PostgreSQLDatabaseTruncator.class, PostgreSQLBulkLoader.class,
+		PostgreSQLSchemaMetadata.class, PostgreSQLQueryPlanner.class, PostgreSQLDatabaseTemplate.class,
+		PostgreSQLSchemaProvisioner.class })
+public class AndromedaDatabaseAutoConfiguration {
+}
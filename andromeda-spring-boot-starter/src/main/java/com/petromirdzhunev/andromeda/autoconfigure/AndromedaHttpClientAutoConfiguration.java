@@ -0,0 +1,38 @@
+package com.petromirdzhunev.andromeda.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import com.petromirdzhunev.cucumber.spring.beans.JdkHttpClientWrapper;
+import com.petromirdzhunev.cucumber.spring.beans.RestAssuredTemplate;
+import com.petromirdzhunev.cucumber.spring.context.HttpExchangeLog;
+import com.petromirdzhunev.cucumber.spring.context.HttpLoadGenerator;
+import com.petromirdzhunev.cucumber.spring.context.JdkHttpClientProvider;
+import com.petromirdzhunev.cucumber.spring.context.RestAssuredHttpClientProvider;
+
+/**
+ * Auto-configuration of the HTTP client sending the requests to the application under test. The client is picked by
+ * {@code andromeda.http-client.provider}, and the Rest Assured one is configured only when Rest Assured is on the
+ * classpath.
+ * <p>
+ * Disabled by {@code andromeda.http-client.enabled=false}.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "andromeda.http-client.enabled", havingValue = "true", matchIfMissing = true)
+@Import({ HttpExchangeLog.class, HttpLoadGenerator.class })
+public class AndromedaHttpClientAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.restassured.RestAssured")
+	@Import({ RestAssuredTemplate.class, RestAssuredHttpClientProvider.class })
+	static class RestAssuredConfiguration {
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import({ JdkHttpClientWrapper.class, JdkHttpClientProvider.class })
+	static class JdkHttpClientConfiguration {
+	}
+}
@@ -0,0 +1,38 @@
+package com.petromirdzhunev.andromeda.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import com.petromirdzhunev.cucumber.spring.beans.EmbeddedMockHttpServer;
+import com.petromirdzhunev.cucumber.spring.beans.MockHttpServerWrapper;
+import com.petromirdzhunev.cucumber.spring.context.EmbeddedMockHttpServerProvider;
+import com.petromirdzhunev.cucumber.spring.context.MockServerProvider;
+import com.petromirdzhunev.cucumber.spring.environment.MockHttpServerPortBinder;
+
+/**
+ * Auto-configuration of the mock HTTP server standing in for the services called by the application under test. The
+ * server is picked by {@code andromeda.mock.http-server.provider}, and the MockServer one is configured only when
+ * MockServer is on the classpath. Either server is started by the first mock server step, or when its dynamic port
+ * is first resolved, not with the context.
+ * <p>
+ * Disabled by {@code andromeda.mock.http-server.enabled=false}.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "andromeda.mock.http-server.enabled", havingValue = "true", matchIfMissing = true)
+@Import(MockHttpServerPortBinder.class)
+public class AndromedaMockHttpServerAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.mockserver.integration.ClientAndServer")
+	@Import({ MockHttpServerWrapper.class, MockServerProvider.class })
+	static class MockServerConfiguration {
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import({ EmbeddedMockHttpServer.class, EmbeddedMockHttpServerProvider.class })
+	static class EmbeddedMockHttpServerConfiguration {
+	}
+}
@@ -0,0 +1,61 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.util.Set;
+
+import org.jooq.DataType;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * The PostgreSQL column types the database steps coerce and compare the values by. Any other type (e.g., text,
+ * varchar, enums) is handled as {@link #TEXT}.
+ */
+public enum ColumnType {
+	INTEGER(SQLDataType.BIGINT, Set.of("int2", "int4", "int8")),
+	DECIMAL(SQLDataType.NUMERIC, Set.of("numeric", "float4", "float8")),
+	BOOLEAN(SQLDataType.BOOLEAN, Set.of("bool")),
+	JSON(SQLDataType.JSON, Set.of("json")),
+	JSONB(SQLDataType.JSONB, Set.of("jsonb")),
+	BYTEA(SQLDataType.BLOB, Set.of("bytea")),
+	TIMESTAMP(SQLDataType.LOCALDATETIME, Set.of("timestamp")),
+	TIMESTAMPTZ(SQLDataType.TIMESTAMPWITHTIMEZONE, Set.of("timestamptz")),
+	DATE(SQLDataType.LOCALDATE, Set.of("date")),
+	TIME(SQLDataType.LOCALTIME, Set.of("time")),
+	UUID(SQLDataType.UUID, Set.of("uuid")),
+	// Array values are written and compared in their PostgreSQL literal format (e.g., {1,2,3})
+	ARRAY(null, Set.of()),
+	TEXT(null, Set.of());
+
+	private final DataType<?> dataType;
+	private final Set<String> udtNames;
+
+	ColumnType(final DataType<?> dataType, final Set<String> udtNames) {
+		this.dataType = dataType;
+		this.udtNames = udtNames;
+	}
+
+	/**
+	 * @param udtName the name of the type as in {@code information_schema.columns.udt_name}
+	 */
+	public static ColumnType of(final String udtName) {
+		if (udtName.startsWith("_")) {
+			return ARRAY;
+		}
+		for (ColumnType columnType : values()) {
+			if (columnType.udtNames.contains(udtName)) {
+				return columnType;
+			}
+		}
+		return TEXT;
+	}
+
+	/**
+	 * @return the jOOQ type the values are bound with, or {@code null} when the value is bound as it is written
+	 */
+	public DataType<?> dataType() {
+		return dataType;
+	}
+
+	public boolean isJson() {
+		return this == JSON || this == JSONB;
+	}
+}
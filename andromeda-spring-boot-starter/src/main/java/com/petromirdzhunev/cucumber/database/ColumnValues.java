@@ -0,0 +1,197 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jooq.JSON;
+import org.jooq.JSONB;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Coerces the values written in the feature files to the typed values of their {@link ColumnType} and normalizes both
+ * the written and the database values to a canonical text, so they are compared by their typed value (e.g., {@code 1.0}
+ * equals {@code 1} in a numeric column). JSON is parsed only for the json/jsonb columns and is compared ignoring the
+ * order of the object fields and the array elements.
+ */
+@RequiredArgsConstructor
+public class ColumnValues {
+
+	private static final String BYTEA_HEX_PREFIX = "\\x";
+	// Accepts both the ISO (2024-01-31T10:15:30) and the PostgreSQL (2024-01-31 10:15:30+02) formats
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE)
+			.optionalStart().appendLiteral('T').optionalEnd()
+			.optionalStart().appendLiteral(' ').optionalEnd()
+			.append(DateTimeFormatter.ISO_LOCAL_TIME)
+			.optionalStart().appendOffset("+HH:mm", "Z").optionalEnd()
+			.optionalStart().appendOffset("+HH", "Z").optionalEnd()
+			.toFormatter();
+
+	// FIXME: Replace with JsonConverter once the library is released.
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @return the typed value of a written value, to be bound to the {@link ColumnType#dataType()}
+	 */
+	public Object parse(final ColumnType columnType, final String value) {
+		if (value == null) {
+			return null;
+		}
+		return switch (columnType) {
+			case INTEGER -> Long.valueOf(value.trim());
+			case DECIMAL -> new BigDecimal(value.trim());
+			case BOOLEAN -> parseBoolean(value.trim());
+			case JSON -> JSON.valueOf(value);
+			case JSONB -> JSONB.valueOf(value);
+			case BYTEA -> value.startsWith(BYTEA_HEX_PREFIX)
+					? HexFormat.of().parseHex(value.substring(BYTEA_HEX_PREFIX.length()))
+					: value.getBytes(StandardCharsets.UTF_8);
+			case TIMESTAMP -> LocalDateTime.parse(value.trim(), DATE_TIME_FORMATTER);
+			case TIMESTAMPTZ -> parseOffsetDateTime(value.trim());
+			case DATE -> LocalDate.parse(value.trim());
+			case TIME -> LocalTime.parse(value.trim());
+			case UUID -> java.util.UUID.fromString(value.trim());
+			case ARRAY, TEXT -> value;
+		};
+	}
+
+	/**
+	 * @return the canonical text of a written value, or the value as it is when it can't be parsed to the column type
+	 */
+	public String normalizeWritten(final ColumnType columnType, final String value) {
+		if (value == null || columnType == ColumnType.TEXT || columnType == ColumnType.ARRAY) {
+			return value;
+		}
+		try {
+			return normalize(columnType, parse(columnType, value));
+		} catch (RuntimeException exception) {
+			// The value is reported as it is written in the difference
+			return value;
+		}
+	}
+
+	/**
+	 * @return the canonical text of a value read from the database
+	 */
+	public String normalize(final ColumnType columnType, final Object value) {
+		if (value == null) {
+			return null;
+		}
+		return switch (columnType) {
+			case INTEGER, DECIMAL -> value instanceof Number || value instanceof String
+					? new BigDecimal(value.toString().trim()).stripTrailingZeros().toPlainString()
+					: String.valueOf(value);
+			case JSON, JSONB -> canonicalJson(value.toString());
+			case BYTEA -> byteaLiteral(value);
+			case TIMESTAMP -> value instanceof Timestamp timestamp
+					? timestamp.toLocalDateTime().toString()
+					: String.valueOf(value);
+			case TIMESTAMPTZ -> switch (value) {
+				case OffsetDateTime offsetDateTime -> offsetDateTime.toInstant().toString();
+				case Timestamp timestamp -> timestamp.toInstant().toString();
+				default -> String.valueOf(value);
+			};
+			case DATE -> value instanceof java.sql.Date date ? date.toLocalDate().toString() : String.valueOf(value);
+			case UUID -> String.valueOf(value).toLowerCase();
+			case ARRAY -> arrayLiteral(value);
+			case BOOLEAN, TIME, TEXT -> value instanceof byte[] bytes
+					? new String(bytes, StandardCharsets.UTF_8)
+					: String.valueOf(value);
+		};
+	}
+
+	private static Boolean parseBoolean(final String value) {
+		return switch (value.toLowerCase()) {
+			case "true", "t", "yes", "y", "on", "1" -> Boolean.TRUE;
+			case "false", "f", "no", "n", "off", "0" -> Boolean.FALSE;
+			default -> throw new IllegalArgumentException("Invalid boolean value [value=%s]".formatted(value));
+		};
+	}
+
+	private static OffsetDateTime parseOffsetDateTime(final String value) {
+		final TemporalAccessor dateTime = DATE_TIME_FORMATTER.parseBest(value, OffsetDateTime::from,
+				LocalDateTime::from);
+		// A value without an offset is considered to be in UTC
+		return dateTime instanceof OffsetDateTime offsetDateTime
+				? offsetDateTime
+				: ((LocalDateTime) dateTime).atOffset(ZoneOffset.UTC);
+	}
+
+	// The PostgreSQL hex format, so binary values are compared and reported byte by byte, e.g., \x00ff
+	private static String byteaLiteral(final Object value) {
+		if (value instanceof byte[] bytes) {
+			return BYTEA_HEX_PREFIX + HexFormat.of().formatHex(bytes);
+		}
+		final String text = String.valueOf(value);
+		return text.startsWith(BYTEA_HEX_PREFIX) ? text.toLowerCase() : text;
+	}
+
+	private static String arrayLiteral(final Object value) {
+		Object elements = value;
+		if (value instanceof java.sql.Array array) {
+			try {
+				elements = array.getArray();
+			} catch (SQLException e) {
+				return String.valueOf(value);
+			}
+		}
+		if (elements instanceof Object[] array) {
+			return Stream.of(array)
+			             .map(element -> element instanceof Object[] ? arrayLiteral(element) : String.valueOf(element))
+			             .collect(Collectors.joining(",", "{", "}"));
+		}
+		return String.valueOf(elements);
+	}
+
+	private String canonicalJson(final String value) {
+		try {
+			return canonicalJson(objectMapper.readTree(value)).toString();
+		} catch (JsonProcessingException e) {
+			return value;
+		}
+	}
+
+	private JsonNode canonicalJson(final JsonNode node) {
+		if (node instanceof ObjectNode objectNode) {
+			final Map<String, JsonNode> sortedFields = new TreeMap<>();
+			objectNode.properties().forEach(field -> sortedFields.put(field.getKey(), canonicalJson(field.getValue())));
+			final ObjectNode canonicalNode = objectMapper.createObjectNode();
+			canonicalNode.setAll(sortedFields);
+			return canonicalNode;
+		}
+		if (node instanceof ArrayNode arrayNode) {
+			final List<JsonNode> elements = new ArrayList<>(arrayNode.size());
+			arrayNode.forEach(element -> elements.add(canonicalJson(element)));
+			elements.sort(Comparator.comparing(JsonNode::toString));
+			final ArrayNode canonicalNode = objectMapper.createArrayNode();
+			canonicalNode.addAll(elements);
+			return canonicalNode;
+		}
+		return node;
+	}
+}
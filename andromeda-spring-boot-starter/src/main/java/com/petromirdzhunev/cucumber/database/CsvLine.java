@@ -0,0 +1,51 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a single CSV line the way the PostgreSQL {@code COPY ... (FORMAT csv)} parses it: the values are separated by
+ * commas, a value within double quotes may contain commas, and a doubled double quote within a quoted value stands for
+ * a double quote. Like {@code COPY}, the whitespace around the values is kept, so the callers parsing hand written
+ * lines (e.g., the column names of a fixture file header) trim the values themselves.
+ */
+public final class CsvLine {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+
+	private CsvLine() {
+	}
+
+	public static List<String> split(final String line) {
+		final List<String> values = new ArrayList<>();
+		final StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			final char character = line.charAt(i);
+			if (quoted) {
+				if (character != QUOTE) {
+					value.append(character);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+					value.append(QUOTE);
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (character == QUOTE) {
+				// As in COPY, a quoted part may start anywhere within a value
+				quoted = true;
+			} else if (character == SEPARATOR) {
+				values.add(value.toString());
+				value.setLength(0);
+			} else {
+				value.append(character);
+			}
+		}
+		if (quoted) {
+			throw new IllegalArgumentException("Unterminated quoted CSV value [line=%s]".formatted(line));
+		}
+		values.add(value.toString());
+		return values;
+	}
+}
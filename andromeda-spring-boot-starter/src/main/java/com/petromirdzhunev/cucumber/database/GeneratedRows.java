@@ -0,0 +1,118 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lazily generates synthetic rows out of per-column generator templates, so any number of rows can be streamed to the
+ * database without building them in memory. The random generators use a seeded random, so the same seed always
+ * generates the same rows. The supported templates are:
+ * <ul>
+ *     <li>{@code sequence}, {@code sequence(start)} or {@code sequence(start, step)}</li>
+ *     <li>{@code range(min, max)} - a random integer between min and max, both inclusive</li>
+ *     <li>{@code oneOf(first, second, ...)} - a random value out of the given ones</li>
+ *     <li>{@code timestamp(from, to)} - a random timestamp between the given ISO timestamps</li>
+ *     <li>{@code uuid}</li>
+ *     <li>{@code constant(value)}</li>
+ *     <li>{@code template(text)} - the text where every {@code {n}} is replaced by the row number, starting from 1</li>
+ * </ul>
+ * The arguments are split like a CSV line and trimmed, so an argument containing commas is written within double
+ * quotes, e.g. {@code oneOf("Sofia, Bulgaria", "Paris, France")}.
+ */
+public final class GeneratedRows implements Iterator<List<String>> {
+
+	private static final Pattern GENERATOR_PATTERN = Pattern.compile("^(\\w+)(?:\\((.*)\\))?$");
+
+	private final long rowsCount;
+	private final List<LongFunction<String>> columnGenerators;
+	private final SplittableRandom random;
+	private long generatedRows;
+
+	public GeneratedRows(final long rowsCount, final List<String> generatorTemplates, final long seed) {
+		this.rowsCount = rowsCount;
+		this.random = new SplittableRandom(seed);
+		this.columnGenerators = generatorTemplates.stream().map(this::columnGenerator).toList();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return generatedRows < rowsCount;
+	}
+
+	@Override
+	public List<String> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final long rowNumber = ++generatedRows;
+		final List<String> row = new ArrayList<>(columnGenerators.size());
+		for (LongFunction<String> columnGenerator : columnGenerators) {
+			row.add(columnGenerator.apply(rowNumber));
+		}
+		return row;
+	}
+
+	private LongFunction<String> columnGenerator(final String generatorTemplate) {
+		final Matcher matcher = GENERATOR_PATTERN.matcher(generatorTemplate.trim());
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Invalid generator [template=%s]".formatted(generatorTemplate));
+		}
+		final String name = matcher.group(1);
+		final String arguments = matcher.group(2);
+		final List<String> argumentsList = arguments == null || arguments.isBlank()
+				? List.of()
+				: CsvLine.split(arguments).stream().map(String::strip).toList();
+
+		return switch (name) {
+			case "sequence" -> {
+				final long start = argumentsList.isEmpty() ? 1 : Long.parseLong(argumentsList.get(0));
+				final long step = argumentsList.size() < 2 ? 1 : Long.parseLong(argumentsList.get(1));
+				yield rowNumber -> String.valueOf(start + (rowNumber - 1) * step);
+			}
+			case "range" -> {
+				requireArguments(generatorTemplate, argumentsList, 2);
+				final long min = Long.parseLong(argumentsList.get(0));
+				final long max = Long.parseLong(argumentsList.get(1));
+				yield rowNumber -> String.valueOf(random.nextLong(min, max + 1));
+			}
+			case "oneOf" -> {
+				requireArguments(generatorTemplate, argumentsList, 1);
+				yield rowNumber -> argumentsList.get(random.nextInt(argumentsList.size()));
+			}
+			case "timestamp" -> {
+				requireArguments(generatorTemplate, argumentsList, 2);
+				final long from = LocalDateTime.parse(argumentsList.get(0)).toEpochSecond(ZoneOffset.UTC);
+				final long to = LocalDateTime.parse(argumentsList.get(1)).toEpochSecond(ZoneOffset.UTC);
+				yield rowNumber -> LocalDateTime.ofEpochSecond(random.nextLong(from, to + 1), 0, ZoneOffset.UTC)
+				                                .toString();
+			}
+			// Random (version 4) UUIDs, generated out of the seeded random
+			case "uuid" -> rowNumber -> new UUID(random.nextLong() & ~0xF000L | 0x4000L,
+					random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L).toString();
+			case "constant" -> rowNumber -> arguments;
+			case "template" -> {
+				requireArguments(generatorTemplate, argumentsList, 1);
+				yield rowNumber -> arguments.replace("{n}", String.valueOf(rowNumber));
+			}
+			default -> throw new IllegalArgumentException("Unsupported generator [template=%s]"
+					.formatted(generatorTemplate));
+		};
+	}
+
+	private static void requireArguments(final String generatorTemplate, final List<String> arguments,
+			final int minArgumentsCount) {
+		if (arguments.size() < minArgumentsCount) {
+			throw new IllegalArgumentException("Missing generator arguments [template=%s, expectedArguments=%d]"
+					.formatted(generatorTemplate, minArgumentsCount));
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The plan of a query, as returned by PostgreSQL {@code EXPLAIN (FORMAT JSON)}.
+ */
+public record QueryPlan(String sql, JsonNode plan) {
+
+	private static final String SEQUENTIAL_SCAN_NODE_TYPE = "Seq Scan";
+
+	/**
+	 * @return the estimated cost of the whole query, in the arbitrary units of the planner
+	 */
+	public double totalCost() {
+		return rootNode().path("Total Cost").asDouble();
+	}
+
+	/**
+	 * @return the names of the tables read by a sequential scan anywhere in the plan
+	 */
+	public List<String> sequentiallyScannedTables() {
+		final List<String> tableNames = new ArrayList<>();
+		collectSequentiallyScannedTables(rootNode(), tableNames);
+		return tableNames;
+	}
+
+	private JsonNode rootNode() {
+		return plan.path(0).path("Plan");
+	}
+
+	private static void collectSequentiallyScannedTables(final JsonNode node, final List<String> tableNames) {
+		if (SEQUENTIAL_SCAN_NODE_TYPE.equals(node.path("Node Type").asText())) {
+			tableNames.add(node.path("Relation Name").asText());
+		}
+		node.path("Plans").forEach(childNode -> collectSequentiallyScannedTables(childNode, tableNames));
+	}
+}
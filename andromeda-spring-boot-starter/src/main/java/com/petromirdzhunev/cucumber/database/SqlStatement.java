@@ -0,0 +1,50 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A SQL statement executed by the application under test.
+ *
+ * @param normalizedSql the SQL without its literal values and with its whitespace collapsed, so the same query
+ *                      executed with different values (e.g., an N+1 query) has the same normalized SQL
+ * @param duration      the execution time, without fetching the rows
+ * @param rows          the rows fetched so far by a query, or the rows changed by an update
+ */
+public record SqlStatement(String sql, String normalizedSql, Duration duration, AtomicLong rows) {
+
+	private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("(?<![\\w$])-?\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern POSITIONAL_PARAMETER_PATTERN = Pattern.compile("\\$\\d+");
+	private static final Pattern PARAMETER_LIST_PATTERN = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+	// The table name may be quoted and qualified by its schema
+	private static final String TABLE_REFERENCE_PATTERN =
+			"\\b(?:from|join|into|update)\\s+(?:\"?\\w+\"?\\.)?\"?%s\"?(?![\\w\"])";
+
+	public SqlStatement(final String sql, final Duration duration, final long rows) {
+		this(sql, normalize(sql), duration, new AtomicLong(rows));
+	}
+
+	/**
+	 * @return whether the statement reads from, joins, inserts into, updates or deletes from the given table
+	 */
+	public boolean referencesTable(final String tableName) {
+		final Pattern tablePattern = Pattern.compile(TABLE_REFERENCE_PATTERN.formatted(Pattern.quote(tableName)),
+				Pattern.CASE_INSENSITIVE);
+		return tablePattern.matcher(normalizedSql).find();
+	}
+
+	/**
+	 * Replaces the literals and the parameters with {@code ?} and the parameter lists (e.g., {@code IN (?, ?, ?)}) with
+	 * {@code (?)}, so the statements differing only by their values are grouped together.
+	 */
+	public static String normalize(final String sql) {
+		String normalizedSql = STRING_LITERAL_PATTERN.matcher(sql).replaceAll("?");
+		normalizedSql = POSITIONAL_PARAMETER_PATTERN.matcher(normalizedSql).replaceAll("?");
+		normalizedSql = NUMBER_LITERAL_PATTERN.matcher(normalizedSql).replaceAll("?");
+		normalizedSql = PARAMETER_LIST_PATTERN.matcher(normalizedSql).replaceAll("(?)");
+		return WHITESPACE_PATTERN.matcher(normalizedSql).replaceAll(" ").trim();
+	}
+}
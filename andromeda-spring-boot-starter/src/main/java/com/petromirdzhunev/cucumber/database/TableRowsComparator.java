@@ -0,0 +1,166 @@
+package com.petromirdzhunev.cucumber.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Order-insensitive comparison of table rows. The expected rows are indexed by their hash as a multiset, so every
+ * actual row is matched in constant time while it is streamed from the database, without keeping the actual rows in
+ * memory. Only the rows which aren't matched are kept, up to a limit, to build a compact row level difference.
+ * <p>
+ * The cells are compared by their canonical text according to the {@link ColumnType} of their column, as normalized by
+ * {@link ColumnValues}.
+ */
+public final class TableRowsComparator {
+
+	private static final String DATABASE_TABLE_DATA_SEPARATOR = "|";
+	private static final int MAX_REPORTED_ROWS = 50;
+
+	private final List<String> columnNames;
+	private final List<ColumnType> columnTypes;
+	private final ColumnValues columnValues;
+	private final Map<List<String>, Integer> expectedRowsCount = new HashMap<>();
+	private final List<List<String>> unexpectedRows = new ArrayList<>();
+	private long expectedRows;
+	private long actualRows;
+	private long unexpectedRowsCount;
+
+	public TableRowsComparator(final List<String> columnNames, final List<ColumnType> columnTypes,
+			final Iterator<List<String>> expectedRows, final ColumnValues columnValues) {
+		this.columnNames = columnNames;
+		this.columnTypes = columnTypes;
+		this.columnValues = columnValues;
+		expectedRows.forEachRemaining(expectedRow -> {
+			final List<String> normalizedRow = new ArrayList<>(expectedRow.size());
+			for (int i = 0; i < expectedRow.size(); i++) {
+				final String cell = expectedRow.get(i);
+				// The expected "null" cells stand for NULL values
+				normalizedRow.add("null".equals(cell) ? null : columnValues.normalizeWritten(columnTypes.get(i), cell));
+			}
+			expectedRowsCount.merge(normalizedRow, 1, Integer::sum);
+			this.expectedRows++;
+		});
+	}
+
+	/**
+	 * Matches an actual row, as read from the database, against the remaining expected rows.
+	 */
+	public void addActualRow(final List<?> actualRow) {
+		actualRows++;
+		final List<String> normalizedRow = new ArrayList<>(actualRow.size());
+		for (int i = 0; i < actualRow.size(); i++) {
+			normalizedRow.add(columnValues.normalize(columnTypes.get(i), actualRow.get(i)));
+		}
+		final Integer remainingCount = expectedRowsCount.get(normalizedRow);
+		if (remainingCount == null) {
+			unexpectedRowsCount++;
+			if (unexpectedRows.size() < MAX_REPORTED_ROWS) {
+				unexpectedRows.add(normalizedRow);
+			}
+		} else if (remainingCount == 1) {
+			expectedRowsCount.remove(normalizedRow);
+		} else {
+			expectedRowsCount.put(normalizedRow, remainingCount - 1);
+		}
+	}
+
+	public boolean matches() {
+		return unexpectedRowsCount == 0 && expectedRowsCount.isEmpty();
+	}
+
+	/**
+	 * @return the description of the missing, unexpected and changed rows, where a changed row is a missing row paired
+	 * with the unexpected row having the most equal cells
+	 */
+	public String difference(final String tableName) {
+		final List<List<String>> missingRows = new ArrayList<>();
+		expectedRowsCount.forEach((row, count) -> {
+			for (int i = 0; i < count && missingRows.size() < MAX_REPORTED_ROWS; i++) {
+				missingRows.add(row);
+			}
+		});
+		final long missingRowsCount = expectedRowsCount.values().stream().mapToLong(Integer::longValue).sum();
+
+		final List<List<String>> remainingUnexpectedRows = new ArrayList<>(unexpectedRows);
+		final List<String> changedRows = new ArrayList<>();
+		final Iterator<List<String>> missingRowsIterator = missingRows.iterator();
+		while (missingRowsIterator.hasNext()) {
+			final List<String> missingRow = missingRowsIterator.next();
+			final List<String> closestRow = closestRow(missingRow, remainingUnexpectedRows);
+			if (closestRow != null) {
+				changedRows.add(changedRow(missingRow, closestRow));
+				remainingUnexpectedRows.remove(closestRow);
+				missingRowsIterator.remove();
+			}
+		}
+
+		final StringBuilder messageBuilder = new StringBuilder();
+		messageBuilder.append("""
+				Db actual and expected data differs [tableName=%s, actualRows=%d, expectedRows=%d, missingRows=%d, \
+				unexpectedRows=%d]""".formatted(tableName, actualRows, expectedRows, missingRowsCount,
+				unexpectedRowsCount));
+		appendRows(messageBuilder, "Changed rows (expected -> actual)", changedRows);
+		appendRows(messageBuilder, "Missing rows", missingRows.stream().map(this::formattedRow).toList());
+		appendRows(messageBuilder, "Unexpected rows",
+				remainingUnexpectedRows.stream().map(this::formattedRow).toList());
+		if (missingRowsCount > MAX_REPORTED_ROWS || unexpectedRowsCount > MAX_REPORTED_ROWS) {
+			messageBuilder.append(System.lineSeparator())
+			              .append("Only the first %d missing and unexpected rows are reported".formatted(MAX_REPORTED_ROWS));
+		}
+		return messageBuilder.toString();
+	}
+
+	private List<String> closestRow(final List<String> row, final List<List<String>> candidates) {
+		List<String> closestRow = null;
+		int closestRowEqualCells = 0;
+		for (List<String> candidate : candidates) {
+			int equalCells = 0;
+			for (int i = 0; i < row.size(); i++) {
+				if (Objects.equals(row.get(i), candidate.get(i))) {
+					equalCells++;
+				}
+			}
+			if (equalCells > closestRowEqualCells) {
+				closestRow = candidate;
+				closestRowEqualCells = equalCells;
+			}
+		}
+		return closestRow;
+	}
+
+	private String changedRow(final List<String> expectedRow, final List<String> actualRow) {
+		final List<String> cells = new ArrayList<>(expectedRow.size());
+		for (int i = 0; i < expectedRow.size(); i++) {
+			cells.add(Objects.equals(expectedRow.get(i), actualRow.get(i))
+					? expectedRow.get(i)
+					: "%s -> %s".formatted(expectedRow.get(i), actualRow.get(i)));
+		}
+		return formattedRow(cells);
+	}
+
+	private void appendRows(final StringBuilder messageBuilder, final String rowType, final List<String> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		messageBuilder.append(System.lineSeparator());
+		messageBuilder.append(rowType);
+		messageBuilder.append(System.lineSeparator());
+		messageBuilder.append(formattedRow(columnNames));
+		rows.forEach(row -> {
+			messageBuilder.append(System.lineSeparator());
+			messageBuilder.append(row);
+		});
+	}
+
+	private String formattedRow(final List<String> cells) {
+		return cells.stream()
+		            .map(String::valueOf)
+		            .collect(Collectors.joining(DATABASE_TABLE_DATA_SEPARATOR, DATABASE_TABLE_DATA_SEPARATOR,
+				            DATABASE_TABLE_DATA_SEPARATOR));
+	}
+}
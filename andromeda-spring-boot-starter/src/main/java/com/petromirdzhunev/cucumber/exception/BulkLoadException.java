@@ -0,0 +1,17 @@
+package com.petromirdzhunev.cucumber.exception;
+
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLBulkLoader;
+
+/**
+ * Thrown when the rows can't be loaded by the {@link PostgreSQLBulkLoader}
+ */
+public class BulkLoadException extends RuntimeException {
+
+	public BulkLoadException(final String message) {
+		super(message);
+	}
+
+	public BulkLoadException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,15 @@
+package com.petromirdzhunev.cucumber.exception;
+
+/**
+ * Thrown when the database used by the application under test can't be isolated between scenarios
+ */
+public class DatabaseIsolationException extends RuntimeException {
+
+	public DatabaseIsolationException(final String message) {
+		super(message);
+	}
+
+	public DatabaseIsolationException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+}
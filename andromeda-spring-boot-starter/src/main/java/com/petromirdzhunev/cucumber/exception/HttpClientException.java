@@ -0,0 +1,11 @@
+package com.petromirdzhunev.cucumber.exception;
+
+/**
+ * Thrown when the HTTP client request can't be exchanged with the application under test
+ */
+public class HttpClientException extends RuntimeException {
+
+	public HttpClientException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,31 @@
+package com.petromirdzhunev.cucumber.hooks;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.petromirdzhunev.cucumber.parallel.ExclusiveResources;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTemplate;
+
+import io.cucumber.java.Before;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Starts every scenario from a fresh clone of the template database when {@code andromeda.database.isolation=template}.
+ * The template is captured explicitly by the {@code [DB] the current database is captured as the template} step, e.g.,
+ * at the end of a scenario seeding the database, and the scenarios before the capture run on the application database. The clone is shared by the
+ * scenarios running in parallel, so the scenarios touching the database hold the {@link ExclusiveResources#DATABASE}
+ * resource.
+ */
+@RequiredArgsConstructor
+public class DatabaseTemplateHooks {
+
+	private final ObjectProvider<PostgreSQLDatabaseTemplate> databaseTemplate;
+
+	@Before(order = 0)
+	public void restoreDatabase() {
+		databaseTemplate.ifAvailable(template -> {
+			if (template.isSnapshotCaptured()) {
+				template.restore();
+			}
+		});
+	}
+}
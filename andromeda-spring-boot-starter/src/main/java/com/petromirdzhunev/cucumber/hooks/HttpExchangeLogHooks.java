@@ -0,0 +1,26 @@
+package com.petromirdzhunev.cucumber.hooks;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.petromirdzhunev.cucumber.spring.context.HttpExchangeLog;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes out the HTTP client exchanges kept by the {@link HttpExchangeLog} when a scenario fails, unless the HTTP
+ * client subsystem isn't configured.
+ */
+@RequiredArgsConstructor
+public class HttpExchangeLogHooks {
+
+	private final ObjectProvider<HttpExchangeLog> httpExchangeLog;
+
+	@After
+	public void writeOutHttpExchangesOnFailure(final Scenario scenario) {
+		if (scenario.isFailed()) {
+			httpExchangeLog.ifAvailable(HttpExchangeLog::writeOut);
+		}
+	}
+}
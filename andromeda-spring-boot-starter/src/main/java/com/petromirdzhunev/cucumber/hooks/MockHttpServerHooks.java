@@ -0,0 +1,71 @@
+package com.petromirdzhunev.cucumber.hooks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.petromirdzhunev.cucumber.http.ReceivedCall;
+import com.petromirdzhunev.cucumber.parallel.ExclusiveResources;
+import com.petromirdzhunev.cucumber.spring.context.MockHttpServerProvider;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.qameta.allure.Allure;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports a summary of the calls received by the mock HTTP server during every scenario, grouped by method and path,
+ * with the time of the first and the last call relative to the last HTTP client request. The server is shared, so the
+ * calls received since the scenario started are reported, which include the ones of the scenarios running at the same
+ * time, unless they hold the {@link ExclusiveResources#MOCK_HTTP_SERVER} resource. Nothing is reported when the mock
+ * HTTP server subsystem isn't configured.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MockHttpServerHooks {
+
+	private final ObjectProvider<MockHttpServerProvider> mockHttpServerProvider;
+
+	private Instant scenarioStartTime;
+
+	@Before
+	public void markScenarioStart() {
+		scenarioStartTime = Instant.now();
+	}
+
+	@After
+	public void reportReceivedCalls() {
+		final MockHttpServerProvider provider = mockHttpServerProvider.getIfAvailable();
+		if (provider == null) {
+			return;
+		}
+		final List<ReceivedCall> receivedCalls = provider.receivedCalls().stream()
+		                                                 .filter(call -> !call.receivedAt().isBefore(scenarioStartTime))
+		                                                 .toList();
+		if (receivedCalls.isEmpty()) {
+			return;
+		}
+		final Instant referenceTime = provider.lastClientRequestTime().orElse(receivedCalls.getFirst().receivedAt());
+		final Map<String, List<ReceivedCall>> callsByRequest = receivedCalls.stream().collect(Collectors.groupingBy(
+				call -> call.method() + " " + call.path(), LinkedHashMap::new, Collectors.toList()));
+		final StringBuilder summary = new StringBuilder("Mock HTTP server received calls [calls=%d, requests=%d]"
+				.formatted(receivedCalls.size(), callsByRequest.size()));
+		callsByRequest.forEach((request, calls) -> summary.append(System.lineSeparator()).append(
+				"%s [count=%d, firstAtMs=%+d, lastAtMs=%+d, statusCodes=%s]".formatted(request, calls.size(),
+						offsetMillis(referenceTime, calls.getFirst()), offsetMillis(referenceTime, calls.getLast()),
+						calls.stream().map(call -> String.valueOf(call.statusCode())).distinct()
+						     .collect(Collectors.joining(",")))));
+		log.info(summary.toString());
+		Allure.addAttachment("Mock HTTP server received calls", "text/plain", summary.toString(), ".txt");
+	}
+
+	private static long offsetMillis(final Instant referenceTime, final ReceivedCall call) {
+		return Duration.between(referenceTime, call.receivedAt()).toMillis();
+	}
+}
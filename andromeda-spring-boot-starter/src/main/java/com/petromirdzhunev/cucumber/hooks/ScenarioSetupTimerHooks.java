@@ -0,0 +1,21 @@
+package com.petromirdzhunev.cucumber.hooks;
+
+import com.petromirdzhunev.cucumber.spring.beans.ScenarioSetupTimer;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports the scenario setup time measured by the {@link ScenarioSetupTimer} at the end of every scenario.
+ */
+@RequiredArgsConstructor
+public class ScenarioSetupTimerHooks {
+
+	private final ScenarioSetupTimer scenarioSetupTimer;
+
+	@After
+	public void reportScenarioSetupTime(final Scenario scenario) {
+		scenarioSetupTimer.scenarioFinished(scenario.getName());
+	}
+}
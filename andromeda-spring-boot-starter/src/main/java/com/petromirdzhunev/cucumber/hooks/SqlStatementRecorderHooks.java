@@ -0,0 +1,46 @@
+package com.petromirdzhunev.cucumber.hooks;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.qameta.allure.Allure;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts recording the SQL statements of the application under test at the beginning of every scenario and reports a
+ * summary of them at its end. The recorder keeps the statements per scenario, so the scenarios running in parallel
+ * don't clear each other's statements. Nothing is recorded when the database subsystem isn't configured.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementRecorderHooks {
+
+	private final ObjectProvider<SqlStatementRecorder> sqlStatementRecorder;
+
+	@Before
+	public void startRecording() {
+		sqlStatementRecorder.ifAvailable(recorder -> {
+			// The statements of the scenario thread are executed by the database steps, not by the application
+			recorder.ignoreCurrentThread();
+			recorder.startScenario();
+		});
+	}
+
+	@After
+	public void reportStatements() {
+		final SqlStatementRecorder recorder = sqlStatementRecorder.getIfAvailable();
+		if (recorder == null) {
+			return;
+		}
+		if (!recorder.statements().isEmpty()) {
+			final String summary = recorder.summary();
+			log.debug(summary);
+			Allure.addAttachment("Application SQL statements", "text/plain", summary, ".txt");
+		}
+		recorder.finishScenario();
+	}
+}
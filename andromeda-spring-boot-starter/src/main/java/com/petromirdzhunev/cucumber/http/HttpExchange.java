@@ -0,0 +1,50 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A request sent by the HTTP client together with its response, kept as raw values, so it is formatted only when it is
+ * written out.
+ *
+ * @param requestHeaders  the headers as {@code name: value} lines
+ * @param responseHeaders the headers as {@code name: value} lines
+ */
+public record HttpExchange(String method, String uri, List<String> requestHeaders, String requestBody,
+                           int statusCode, List<String> responseHeaders, String responseBody,
+                           Duration responseTime) {
+
+	/**
+	 * @return a copy with the bodies cut to the given length
+	 */
+	public HttpExchange truncated(final int maxBodyLength) {
+		return new HttpExchange(method, uri, requestHeaders, truncated(requestBody, maxBodyLength), statusCode,
+				responseHeaders, truncated(responseBody, maxBodyLength), responseTime);
+	}
+
+	public String formatted() {
+		final String lineSeparator = System.lineSeparator();
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Request: ").append(method).append(' ').append(uri).append(lineSeparator);
+		requestHeaders.forEach(header -> builder.append(header).append(lineSeparator));
+		if (requestBody != null && !requestBody.isEmpty()) {
+			builder.append(lineSeparator).append(requestBody).append(lineSeparator);
+		}
+		builder.append(lineSeparator)
+		       .append("Response: ").append(statusCode)
+		       .append(" [durationMs=").append(responseTime.toMillis()).append(']')
+		       .append(lineSeparator);
+		responseHeaders.forEach(header -> builder.append(header).append(lineSeparator));
+		if (responseBody != null && !responseBody.isEmpty()) {
+			builder.append(lineSeparator).append(responseBody).append(lineSeparator);
+		}
+		return builder.toString();
+	}
+
+	private static String truncated(final String body, final int maxBodyLength) {
+		if (body == null || body.length() <= maxBodyLength) {
+			return body;
+		}
+		return "%s... [truncated, length=%d]".formatted(body.substring(0, maxBodyLength), body.length());
+	}
+}
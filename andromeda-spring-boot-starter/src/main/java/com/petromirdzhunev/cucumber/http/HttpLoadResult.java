@@ -0,0 +1,50 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of replaying the prepared HTTP client request under load. The warm-up requests aren't part of it.
+ *
+ * @param failedRequests the requests which didn't get a response (e.g., a connection error)
+ */
+public record HttpLoadResult(int requestsCount, int concurrency, Duration duration, LatencyHistogram latencies,
+                             Map<Integer, Long> statusCodes, long failedRequests) {
+
+	private static final Map<String, Double> REPORTED_PERCENTILES = Map.of("p50", 50.0, "p90", 90.0, "p95", 95.0,
+			"p99", 99.0, "p999", 99.9);
+
+	/**
+	 * @return the completed requests per second
+	 */
+	public double throughput() {
+		return latencies.count() * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(duration.toNanos(), 1);
+	}
+
+	/**
+	 * @return the result as key-value pairs, ready to be serialized in a report
+	 */
+	public Map<String, Object> summary() {
+		final Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("requests", requestsCount);
+		summary.put("concurrency", concurrency);
+		summary.put("durationMs", duration.toMillis());
+		summary.put("throughputPerSecond", Math.round(throughput() * 100) / 100.0);
+		summary.put("failedRequests", failedRequests);
+		summary.put("statusCodes", statusCodes);
+		final Map<String, Double> latenciesMs = new LinkedHashMap<>();
+		REPORTED_PERCENTILES.entrySet().stream()
+		                    .sorted(Map.Entry.comparingByValue())
+		                    .forEach(percentile -> latenciesMs.put(percentile.getKey(),
+				                    toMillis(latencies.percentile(percentile.getValue()))));
+		latenciesMs.put("max", toMillis(latencies.max()));
+		summary.put("latenciesMs", latenciesMs);
+		return summary;
+	}
+
+	private static double toMillis(final Duration duration) {
+		return duration.toNanos() / 1_000 / 1_000.0;
+	}
+}
@@ -0,0 +1,16 @@
+package com.petromirdzhunev.cucumber.http;
+
+/**
+ * Sends the prepared HTTP client request again, independently of the last response kept for the assertions. The
+ * implementations are safe to be used concurrently.
+ */
+public interface HttpRequestReplayer extends AutoCloseable {
+
+	/**
+	 * @return the response status code
+	 */
+	int replay();
+
+	@Override
+	void close();
+}
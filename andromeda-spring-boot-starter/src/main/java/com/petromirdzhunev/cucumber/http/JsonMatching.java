@@ -0,0 +1,62 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Non-strict JSON matching, where the actual JSON must contain the expected one: the objects may have extra fields and
+ * the arrays may have extra elements in any order.
+ */
+public final class JsonMatching {
+
+	private JsonMatching() {
+	}
+
+	public static boolean contains(final JsonNode actual, final JsonNode expected) {
+		if (expected.isObject()) {
+			if (!actual.isObject()) {
+				return false;
+			}
+			for (Map.Entry<String, JsonNode> expectedField : expected.properties()) {
+				final JsonNode actualField = actual.get(expectedField.getKey());
+				if (actualField == null || !contains(actualField, expectedField.getValue())) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (expected.isArray()) {
+			if (!actual.isArray()) {
+				return false;
+			}
+			// Every expected element must be matched by a different actual element
+			final List<JsonNode> remainingElements = new ArrayList<>();
+			actual.forEach(remainingElements::add);
+			for (JsonNode expectedElement : expected) {
+				if (!removeFirstMatch(remainingElements, expectedElement)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (expected.isNumber() && actual.isNumber()) {
+			return expected.decimalValue().compareTo(actual.decimalValue()) == 0;
+		}
+		return expected.equals(actual);
+	}
+
+	private static boolean removeFirstMatch(final List<JsonNode> elements, final JsonNode expectedElement) {
+		final Iterator<JsonNode> elementsIterator = elements.iterator();
+		while (elementsIterator.hasNext()) {
+			if (contains(elementsIterator.next(), expectedElement)) {
+				elementsIterator.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,77 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, which keeps the recorded values with a relative error below
+ * 1/64 (~1.6%) using a fixed amount of memory, no matter how many values are recorded. Values are recorded in
+ * microseconds, so up to ~292 thousand years can be represented.
+ */
+public final class LatencyHistogram {
+
+	// Every power of two range is split in SUB_BUCKETS linear buckets
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+	public void record(final Duration latency) {
+		final long micros = Math.max(latency.toNanos() / 1_000, 0);
+		counts.incrementAndGet(bucketIndex(micros));
+		totalCount.increment();
+		maxMicros.accumulate(micros);
+	}
+
+	public long count() {
+		return totalCount.sum();
+	}
+
+	public Duration max() {
+		return Duration.ofNanos(maxMicros.get() * 1_000);
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 * @return the latency which the given percentile of the recorded values are below or equal to
+	 */
+	public Duration percentile(final double percentile) {
+		final long count = count();
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+		final long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				// The upper bound of the bucket, capped by the max, so the percentiles are never underestimated
+				return Duration.ofNanos(Math.min(bucketUpperBound(i), maxMicros.get()) * 1_000);
+			}
+		}
+		return max();
+	}
+
+	private static int bucketIndex(final long micros) {
+		if (micros < 2 * SUB_BUCKETS) {
+			return (int) micros;
+		}
+		final int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+		final int shift = magnitude - SUB_BUCKET_BITS;
+		return shift * SUB_BUCKETS + (int) (micros >>> shift);
+	}
+
+	private static long bucketUpperBound(final int index) {
+		if (index < 2 * SUB_BUCKETS) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKETS - 1;
+		final long subBucket = index - (long) shift * SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,11 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Instant;
+
+/**
+ * A request received by the mock HTTP server, as recorded in its request log.
+ *
+ * @param statusCode the status code of the response, or 0 when the connection was dropped
+ */
+public record ReceivedCall(String method, String path, Instant receivedAt, int statusCode) {
+}
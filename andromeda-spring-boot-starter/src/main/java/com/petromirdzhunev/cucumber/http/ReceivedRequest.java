@@ -0,0 +1,49 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request received by the embedded mock HTTP server.
+ *
+ * @param headers         with case-insensitive names
+ * @param queryParameters the decoded query string parameters
+ */
+public record ReceivedRequest(String method, String path, Map<String, List<String>> headers,
+                              Map<String, List<String>> queryParameters, byte[] body) {
+
+	public String header(final String name) {
+		final List<String> values = headers.get(name);
+		return values == null || values.isEmpty() ? null : values.getFirst();
+	}
+
+	public String bodyAsString() {
+		return new String(body, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the form url-encoded parameters of the body
+	 */
+	public Map<String, List<String>> formParameters() {
+		return decodedParameters(bodyAsString());
+	}
+
+	public static Map<String, List<String>> decodedParameters(final String encodedParameters) {
+		final Map<String, List<String>> parameters = new LinkedHashMap<>();
+		if (encodedParameters == null || encodedParameters.isEmpty()) {
+			return parameters;
+		}
+		for (String parameter : encodedParameters.split("&")) {
+			final int separatorIndex = parameter.indexOf('=');
+			final String key = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+			final String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+			parameters.computeIfAbsent(URLDecoder.decode(key, StandardCharsets.UTF_8), name -> new ArrayList<>())
+			          .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return parameters;
+	}
+}
@@ -0,0 +1,41 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * A Rest Assured {@link Filter} handing every exchange as an {@link HttpExchange} to a consumer, instead of logging it.
+ */
+public class RecordingFilter implements Filter {
+
+	private final Consumer<HttpExchange> exchangeConsumer;
+
+	public RecordingFilter(final Consumer<HttpExchange> exchangeConsumer) {
+		this.exchangeConsumer = exchangeConsumer;
+	}
+
+	@Override
+	public Response filter(final FilterableRequestSpecification requestSpec,
+			final FilterableResponseSpecification responseSpec, final FilterContext context) {
+		final long startTime = System.nanoTime();
+		final Response response = context.next(requestSpec, responseSpec);
+		final Object requestBody = requestSpec.getBody();
+		exchangeConsumer.accept(new HttpExchange(requestSpec.getMethod(), requestSpec.getURI(),
+				headerLines(requestSpec.getHeaders()), requestBody == null ? null : requestBody.toString(),
+				response.getStatusCode(), headerLines(response.getHeaders()), response.asString(),
+				Duration.ofNanos(System.nanoTime() - startTime)));
+		return response;
+	}
+
+	private static List<String> headerLines(final Headers headers) {
+		return headers.asList().stream().map(header -> header.getName() + ": " + header.getValue()).toList();
+	}
+}
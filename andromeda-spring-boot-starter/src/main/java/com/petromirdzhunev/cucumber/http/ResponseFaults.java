@@ -0,0 +1,88 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The latency, bandwidth and faults injected into a mock HTTP server response, to check how the application under test
+ * copes with a slow or failing dependency.
+ *
+ * @param delay             the time to wait before responding
+ * @param jitter            the maximum random deviation from the delay, in both directions
+ * @param chunkSize         the size of the chunks the body is sent in, or 0 to send it at once
+ * @param chunkDelay        the time to wait before sending every following chunk
+ * @param failEveryNthCall  the period of the failing calls, or 0 to never fail
+ * @param failureStatusCode the status code of the failing calls
+ * @param dropConnection    whether the connection is closed without a response
+ */
+public record ResponseFaults(Duration delay, Duration jitter, int chunkSize, Duration chunkDelay, int failEveryNthCall,
+                             int failureStatusCode, boolean dropConnection) {
+
+	public static final ResponseFaults NONE = new ResponseFaults(Duration.ZERO, Duration.ZERO, 0, Duration.ZERO, 0, 0,
+			false);
+
+	public ResponseFaults withDelay(final Duration delay, final Duration jitter) {
+		if (delay.isNegative()) {
+			throw new IllegalArgumentException("Invalid response delay [delayMs=%d]".formatted(delay.toMillis()));
+		}
+		if (jitter.isNegative()) {
+			throw new IllegalArgumentException("Invalid response delay jitter [jitterMs=%d]".formatted(jitter.toMillis()));
+		}
+		return new ResponseFaults(delay, jitter, chunkSize, chunkDelay, failEveryNthCall, failureStatusCode,
+				dropConnection);
+	}
+
+	public ResponseFaults withChunks(final int chunkSize, final Duration chunkDelay) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Invalid chunk size [chunkSize=%d]".formatted(chunkSize));
+		}
+		if (chunkDelay.isNegative()) {
+			throw new IllegalArgumentException("Invalid chunk delay [chunkDelayMs=%d]".formatted(chunkDelay.toMillis()));
+		}
+		return new ResponseFaults(delay, jitter, chunkSize, chunkDelay, failEveryNthCall, failureStatusCode,
+				dropConnection);
+	}
+
+	public ResponseFaults withFailEveryNthCall(final int failEveryNthCall, final int failureStatusCode) {
+		if (failEveryNthCall < 1) {
+			throw new IllegalArgumentException("Invalid failing call period [failEveryNthCall=%d]"
+					.formatted(failEveryNthCall));
+		}
+		return new ResponseFaults(delay, jitter, chunkSize, chunkDelay, failEveryNthCall, failureStatusCode,
+				dropConnection);
+	}
+
+	public ResponseFaults withDroppedConnection() {
+		return new ResponseFaults(delay, jitter, chunkSize, chunkDelay, failEveryNthCall, failureStatusCode, true);
+	}
+
+	/**
+	 * @return the delay of the next response, uniformly distributed within the jitter around the delay
+	 */
+	public Duration nextDelay() {
+		if (jitter.isZero()) {
+			return delay;
+		}
+		final long jitterNanos = jitter.toNanos();
+		final long delayNanos = delay.toNanos() + ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1);
+		return Duration.ofNanos(Math.max(delayNanos, 0));
+	}
+
+	/**
+	 * @param callNumber the number of the matched call, starting from 1
+	 */
+	public boolean isFailingCall(final long callNumber) {
+		return failEveryNthCall > 0 && callNumber % failEveryNthCall == 0;
+	}
+
+	public boolean isChunked() {
+		return chunkSize > 0;
+	}
+
+	/**
+	 * @return whether the response differs between the calls, so it can't be a static one
+	 */
+	public boolean isVaryingPerCall() {
+		return !jitter.isZero() || failEveryNthCall > 0;
+	}
+}
@@ -0,0 +1,28 @@
+package com.petromirdzhunev.cucumber.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * An expectation of the embedded mock HTTP server. The method and the path are exact, so they index the expectations,
+ * while the rest of the request (headers, query string parameters and body) is checked by the matcher only for the
+ * expectations with the same method and path.
+ *
+ * @param matchedCalls the number of requests matched so far
+ */
+public record StubExpectation(String method, String path, Predicate<ReceivedRequest> matcher, StubResponse response,
+                              AtomicLong matchedCalls) {
+
+	public StubExpectation(final String method, final String path, final Predicate<ReceivedRequest> matcher,
+			final StubResponse response) {
+		this(method, path, matcher, response, new AtomicLong());
+	}
+
+	public String key() {
+		return key(method, path);
+	}
+
+	public static String key(final String method, final String path) {
+		return method + " " + path;
+	}
+}
@@ -0,0 +1,7 @@
+package com.petromirdzhunev.cucumber.http;
+
+/**
+ * The response of an expectation registered on the embedded mock HTTP server.
+ */
+public record StubResponse(int statusCode, String contentType, byte[] body, ResponseFaults faults) {
+}
@@ -0,0 +1,38 @@
+package com.petromirdzhunev.cucumber.parallel;
+
+/**
+ * The names of the shared resources, which the scenarios running in parallel on the JUnit Platform engine declare as
+ * exclusive resources. The engine doesn't run two scenarios holding the same read-write resource at once, while the
+ * scenarios without resources run alongside them. For instance, in {@code junit-platform.properties}:
+ * <pre>
+ * cucumber.execution.parallel.enabled=true
+ * cucumber.execution.parallel.config.strategy=fixed
+ * cucumber.execution.parallel.config.fixed.parallelism=16
+ * cucumber.execution.parallel.config.fixed.max-pool-size=16
+ * cucumber.execution.exclusive-resources.mock-http-server.read-write=andromeda.mock-http-server
+ * cucumber.execution.exclusive-resources.database.read-write=andromeda.database
+ * </pre>
+ * The scenarios tagged with {@code @mock-http-server} or {@code @database} then hold the resource, while the hooks
+ * keep running for every scenario.
+ * <p>
+ * The HTTP client, the step definitions and the scenario contexts are safe to use by the scenarios running in parallel.
+ * The resources below are shared by all of them, as there is one Spring context per JVM, so the scenarios holding the
+ * same resource run one at a time, whatever the parallelism. Only the scenarios holding neither of them run at once.
+ */
+public final class ExclusiveResources {
+
+	/**
+	 * The mock HTTP server, as its expectations and received requests are shared, and resetting it clears the ones of all
+	 * the scenarios.
+	 */
+	public static final String MOCK_HTTP_SERVER = "andromeda.mock-http-server";
+
+	/**
+	 * The database, as the tables are shared, and cleaning them up truncates the rows of all the scenarios. The recorded
+	 * application SQL statements are shared as well.
+	 */
+	public static final String DATABASE = "andromeda.database";
+
+	private ExclusiveResources() {
+	}
+}
@@ -0,0 +1,33 @@
+package com.petromirdzhunev.cucumber.plugin;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event spanning the execution of a Cucumber step or hook, so the suite time can be broken down in a flight
+ * recording, next to the application events (e.g., the GC pauses or the socket reads) of the same period.
+ */
+@Name("andromeda.StepExecuted")
+@Label("Cucumber Step Executed")
+@Category({"Andromeda", "Cucumber"})
+@Description("The execution of a Cucumber step or hook")
+@StackTrace(false)
+class StepExecutedEvent extends Event {
+
+	@Label("Type")
+	String type;
+
+	@Label("Pattern")
+	@Description("The step definition pattern, or the hook type and code location")
+	String pattern;
+
+	@Label("Scenario")
+	String scenario;
+
+	@Label("Status")
+	String status;
+}
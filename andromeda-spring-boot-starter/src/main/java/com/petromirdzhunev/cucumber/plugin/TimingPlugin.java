@@ -0,0 +1,224 @@
+package com.petromirdzhunev.cucumber.plugin;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.plugin.TimingReport.ScenarioTiming;
+import com.petromirdzhunev.cucumber.plugin.TimingReport.StepPatternTiming;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.Node;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestSourceParsed;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.util.PropertiesUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Cucumber plugin timing every step and hook by its step definition pattern (e.g.,
+ * {@code [DB] table {tableName} must have rows}) or hook location, and every scenario. The timings are recorded as
+ * {@link StepExecutedEvent} JFR events and as Micrometer timers in the global registry, and are written as a
+ * {@link TimingReport} at the end of the run, both to a JSON file and to the Allure results directory.
+ * <p>
+ * Enabled by {@code @CucumberOptions(plugin = "com.petromirdzhunev.cucumber.plugin.TimingPlugin:target/timings.json")},
+ * where the report file defaults to {@code target/andromeda-timings.json}.
+ */
+@Slf4j
+public class TimingPlugin implements ConcurrentEventListener {
+
+	public static final String DEFAULT_REPORT_FILE = "target/andromeda-timings.json";
+	private static final String STEP_TYPE = "step";
+	private static final int MAX_LOGGED_TIMINGS = 5;
+	private static final String ALLURE_RESULTS_DIRECTORY_PROPERTY = "allure.results.directory";
+	private static final String DEFAULT_ALLURE_RESULTS_DIRECTORY = "allure-results";
+	private static final String ALLURE_ATTACHMENT_FILE = "andromeda-timings-attachment.json";
+
+	private final File reportFile;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<UUID, StepExecutedEvent> runningEvents = new ConcurrentHashMap<>();
+	private final Map<List<String>, PatternStatistics> patternStatistics = new ConcurrentHashMap<>();
+	private final Queue<ScenarioTiming> scenarioTimings = new ConcurrentLinkedQueue<>();
+	private final Map<URI, String> featureNames = new ConcurrentHashMap<>();
+
+	public TimingPlugin() {
+		this(new File(DEFAULT_REPORT_FILE));
+	}
+
+	public TimingPlugin(final File reportFile) {
+		this.reportFile = reportFile;
+	}
+
+	@Override
+	public void setEventPublisher(final EventPublisher publisher) {
+		publisher.registerHandlerFor(TestSourceParsed.class, this::sourceParsed);
+		publisher.registerHandlerFor(TestStepStarted.class, this::stepStarted);
+		publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+		publisher.registerHandlerFor(TestRunFinished.class, event -> runFinished());
+	}
+
+	private void sourceParsed(final TestSourceParsed event) {
+		event.getNodes().stream()
+		     .filter(Node.Feature.class::isInstance)
+		     .findFirst()
+		     .flatMap(Node::getName)
+		     .ifPresent(featureName -> featureNames.put(event.getUri(), featureName));
+	}
+
+	private void stepStarted(final TestStepStarted event) {
+		final StepExecutedEvent stepEvent = new StepExecutedEvent();
+		if (stepEvent.isEnabled()) {
+			// The concurrent events are published on the thread executing the step, so the JFR event spans it
+			stepEvent.begin();
+			runningEvents.put(event.getTestStep().getId(), stepEvent);
+		}
+	}
+
+	private void stepFinished(final TestStepFinished event) {
+		final TestStep testStep = event.getTestStep();
+		final String type = type(testStep);
+		final String pattern = pattern(testStep);
+		final String status = event.getResult().getStatus().name().toLowerCase();
+
+		final StepExecutedEvent stepEvent = runningEvents.remove(testStep.getId());
+		if (stepEvent != null) {
+			stepEvent.type = type;
+			stepEvent.pattern = pattern;
+			stepEvent.scenario = event.getTestCase().getName();
+			stepEvent.status = status;
+			stepEvent.commit();
+		}
+		patternStatistics.computeIfAbsent(List.of(type, pattern), key -> new PatternStatistics(type, pattern))
+		                 .record(event.getResult().getDuration());
+	}
+
+	private void scenarioFinished(final TestCaseFinished event) {
+		final Duration duration = event.getResult().getDuration();
+		final String status = event.getResult().getStatus().name().toLowerCase();
+		final URI uri = event.getTestCase().getUri();
+		scenarioTimings.add(new ScenarioTiming(uri.toString(), featureNames.getOrDefault(uri, ""),
+				event.getTestCase().getLocation().getLine(), event.getTestCase().getName(), duration.toMillis(), status));
+		Timer.builder("andromeda.cucumber.scenario")
+		     .description("The duration of the Cucumber scenarios")
+		     .tag("status", status)
+		     .register(Metrics.globalRegistry)
+		     .record(duration);
+	}
+
+	private void runFinished() {
+		final TimingReport report = new TimingReport(
+				patternStatistics.values().stream()
+				                 .map(PatternStatistics::timing)
+				                 .sorted(Comparator.comparingLong(StepPatternTiming::totalMs).reversed())
+				                 .toList(),
+				scenarioTimings.stream()
+				               .sorted(Comparator.comparingLong(ScenarioTiming::durationMs).reversed())
+				               .toList());
+		final byte[] reportJson;
+		try {
+			reportJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(report);
+			Files.createDirectories(reportFile.getAbsoluteFile().getParentFile().toPath());
+			Files.write(reportFile.toPath(), reportJson);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to write the timing report [file=%s]".formatted(reportFile), e);
+		}
+		writeToAllureResults(reportJson);
+
+		report.stepPatterns().stream().limit(MAX_LOGGED_TIMINGS).forEach(timing -> log.info(
+				"Slowest step pattern [pattern={}, type={}, count={}, totalMs={}, maxMs={}]", timing.pattern(),
+				timing.type(), timing.count(), timing.totalMs(), timing.maxMs()));
+		report.scenarios().stream().limit(MAX_LOGGED_TIMINGS).forEach(timing -> log.info(
+				"Slowest scenario [name={}, uri={}, line={}, durationMs={}]", timing.name(), timing.uri(),
+				timing.line(), timing.durationMs()));
+	}
+
+	/**
+	 * Writes the report to the Allure results directory as an attachment file. No scenario is running at the end of the
+	 * run, so the attachment isn't added to a test result, which would be reported as an extra test.
+	 */
+	private static void writeToAllureResults(final byte[] reportJson) {
+		final String resultsDirectory = PropertiesUtils.loadAllureProperties()
+		                                               .getProperty(ALLURE_RESULTS_DIRECTORY_PROPERTY,
+				                                               DEFAULT_ALLURE_RESULTS_DIRECTORY);
+		new FileSystemResultsWriter(Path.of(resultsDirectory)).write(ALLURE_ATTACHMENT_FILE,
+				new ByteArrayInputStream(reportJson));
+	}
+
+	private static String type(final TestStep testStep) {
+		return testStep instanceof HookTestStep hookTestStep
+				? hookTestStep.getHookType().name().toLowerCase()
+				: STEP_TYPE;
+	}
+
+	private static String pattern(final TestStep testStep) {
+		if (testStep instanceof PickleStepTestStep pickleStepTestStep) {
+			// The undefined steps have no pattern
+			return pickleStepTestStep.getPattern() != null
+					? pickleStepTestStep.getPattern()
+					: pickleStepTestStep.getStep().getText();
+		}
+		return testStep.getCodeLocation();
+	}
+
+	private static final class PatternStatistics {
+
+		private final String type;
+		private final String pattern;
+		private final Timer timer;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+		private PatternStatistics(final String type, final String pattern) {
+			this.type = type;
+			this.pattern = pattern;
+			this.timer = Timer.builder("andromeda.cucumber.step")
+			                  .description("The duration of the Cucumber steps and hooks")
+			                  .tag("type", type)
+			                  .tag("pattern", pattern)
+			                  .register(Metrics.globalRegistry);
+		}
+
+		private void record(final Duration duration) {
+			final long nanos = duration.toNanos();
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			timer.record(duration);
+		}
+
+		private StepPatternTiming timing() {
+			final long executions = count.sum();
+			final long total = totalNanos.sum();
+			return new StepPatternTiming(type, pattern, executions, TimeUnit.NANOSECONDS.toMillis(total),
+					executions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(total / executions),
+					TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+		}
+	}
+}
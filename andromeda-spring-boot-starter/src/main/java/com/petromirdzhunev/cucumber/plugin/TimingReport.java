@@ -0,0 +1,25 @@
+package com.petromirdzhunev.cucumber.plugin;
+
+import java.util.List;
+
+/**
+ * The timings of a Cucumber run, as written by the {@link TimingPlugin}, from the slowest step pattern and scenario.
+ */
+public record TimingReport(List<StepPatternTiming> stepPatterns, List<ScenarioTiming> scenarios) {
+
+	/**
+	 * The timings of all the executions of a step definition pattern, or of a hook.
+	 *
+	 * @param type {@code step} or the hook type (e.g., {@code before})
+	 */
+	public record StepPatternTiming(String type, String pattern, long count, long totalMs, long averageMs, long maxMs) {
+	}
+
+	/**
+	 * @param uri     the URI of the feature file
+	 * @param feature the name of the feature, which together with the scenario name identifies the scenario in the
+	 *                JUnit descriptions
+	 */
+	public record ScenarioTiming(String uri, String feature, int line, String name, long durationMs, String status) {
+	}
+}
@@ -0,0 +1,57 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits the scenarios into shards of about the same total duration with the longest processing time first heuristic:
+ * the scenarios are assigned from the longest one, each to the shard with the lowest total duration so far. The result
+ * is at most 4/3 of the optimal longest shard, and is deterministic for the same scenarios in the same order, so every
+ * shard computes the same split independently.
+ */
+public final class ScenarioShards {
+
+	private ScenarioShards() {
+	}
+
+	/**
+	 * @return the scenarios of every shard, in their original order
+	 */
+	public static <T> List<List<T>> split(final List<T> scenarios, final ToLongFunction<T> estimatedDuration,
+			final int shardsCount) {
+		if (shardsCount < 1) {
+			throw new IllegalArgumentException("Invalid shards count [shardsCount=%d]".formatted(shardsCount));
+		}
+		final List<Integer> scenarioIndexes = new ArrayList<>(scenarios.size());
+		for (int i = 0; i < scenarios.size(); i++) {
+			scenarioIndexes.add(i);
+		}
+		// The sort is stable, so the scenarios with the same duration keep their original order
+		scenarioIndexes.sort(Comparator.comparingLong(
+				(Integer index) -> estimatedDuration.applyAsLong(scenarios.get(index))).reversed());
+
+		final long[] shardDurations = new long[shardsCount];
+		final int[] scenarioShards = new int[scenarios.size()];
+		for (int scenarioIndex : scenarioIndexes) {
+			int shortestShard = 0;
+			for (int shard = 1; shard < shardsCount; shard++) {
+				if (shardDurations[shard] < shardDurations[shortestShard]) {
+					shortestShard = shard;
+				}
+			}
+			shardDurations[shortestShard] += estimatedDuration.applyAsLong(scenarios.get(scenarioIndex));
+			scenarioShards[scenarioIndex] = shortestShard;
+		}
+
+		final List<List<T>> shards = new ArrayList<>(shardsCount);
+		for (int shard = 0; shard < shardsCount; shard++) {
+			shards.add(new ArrayList<>());
+		}
+		for (int i = 0; i < scenarios.size(); i++) {
+			shards.get(scenarioShards[i]).add(scenarios.get(i));
+		}
+		return shards;
+	}
+}
@@ -0,0 +1,73 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.plugin.TimingPlugin;
+import com.petromirdzhunev.cucumber.plugin.TimingReport;
+import com.petromirdzhunev.cucumber.plugin.TimingReport.ScenarioTiming;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The historical scenario durations, read from the reports written by the {@link TimingPlugin} (e.g., by every shard
+ * of the previous run). A scenario executed several times (e.g., the examples of an outline, or in several reports)
+ * has its average duration.
+ */
+@Slf4j
+public final class ScenarioTimings {
+
+	private final Map<String, Long> durationsMs;
+
+	private ScenarioTimings(final Map<String, Long> durationsMs) {
+		this.durationsMs = durationsMs;
+	}
+
+	/**
+	 * Reads the given reports, where the missing ones are skipped, as there are none before the first run.
+	 */
+	public static ScenarioTimings read(final Collection<File> reportFiles) {
+		final ObjectMapper objectMapper = new ObjectMapper();
+		final Map<String, long[]> totals = new HashMap<>();
+		for (File reportFile : reportFiles) {
+			if (!reportFile.isFile()) {
+				log.info("Scenario timing report not found [file={}]", reportFile);
+				continue;
+			}
+			try {
+				for (ScenarioTiming timing : objectMapper.readValue(reportFile, TimingReport.class).scenarios()) {
+					final long[] total = totals.computeIfAbsent(key(timing.feature(), timing.name()),
+							key -> new long[2]);
+					total[0] += timing.durationMs();
+					total[1]++;
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException("Invalid scenario timing report [file=%s]".formatted(reportFile), e);
+			}
+		}
+		final Map<String, Long> durationsMs = new HashMap<>();
+		totals.forEach((key, total) -> durationsMs.put(key, total[0] / total[1]));
+		return new ScenarioTimings(durationsMs);
+	}
+
+	public static String key(final String featureName, final String scenarioName) {
+		return featureName + " / " + scenarioName;
+	}
+
+	public OptionalLong durationMs(final String featureName, final String scenarioName) {
+		final Long durationMs = durationsMs.get(key(featureName, scenarioName));
+		return durationMs == null ? OptionalLong.empty() : OptionalLong.of(durationMs);
+	}
+
+	/**
+	 * @return the average scenario duration, used as the estimate of the scenarios without a historical duration
+	 */
+	public long averageDurationMs() {
+		return (long) durationsMs.values().stream().mapToLong(Long::longValue).average().orElse(1);
+	}
+}
@@ -0,0 +1,44 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import com.petromirdzhunev.cucumber.plugin.TimingPlugin;
+
+/**
+ * The shard to run, as configured by the {@code andromeda.shard.*} system properties.
+ */
+record ShardConfiguration(int shardIndex, int shardsCount, List<File> timingReports) {
+
+	private static final String SHARD_INDEX_PROPERTY = "andromeda.shard.index";
+	private static final String SHARD_TOTAL_PROPERTY = "andromeda.shard.total";
+	private static final String SHARD_TIMINGS_PROPERTY = "andromeda.shard.timings";
+
+	ShardConfiguration {
+		if (shardIndex < 0 || shardIndex >= shardsCount) {
+			throw new IllegalArgumentException("Invalid shard index [shardIndex=%d, shardsCount=%d]"
+					.formatted(shardIndex, shardsCount));
+		}
+	}
+
+	static ShardConfiguration fromSystemProperties() {
+		return new ShardConfiguration(Integer.getInteger(SHARD_INDEX_PROPERTY, 0),
+				Integer.getInteger(SHARD_TOTAL_PROPERTY, 1),
+				Arrays.stream(System.getProperty(SHARD_TIMINGS_PROPERTY, TimingPlugin.DEFAULT_REPORT_FILE).split(","))
+				      .map(String::trim)
+				      .map(File::new)
+				      .toList());
+	}
+
+	/**
+	 * @return whether the scenarios are split across several shards, otherwise all of them run
+	 */
+	boolean isSharded() {
+		return shardsCount > 1;
+	}
+
+	String describe() {
+		return "shard %d of %d".formatted(shardIndex, shardsCount);
+	}
+}
@@ -0,0 +1,124 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import com.petromirdzhunev.cucumber.plugin.TimingPlugin;
+
+import io.cucumber.junit.Cucumber;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A JUnit 4 runner running the {@link Cucumber} scenarios of a single shard, so a suite can be split across several test
+ * JVMs (e.g., CI jobs) of about the same duration. The scenarios are split by {@link ScenarioShards}, according to
+ * their historical durations as read by {@link ScenarioTimings}, where a scenario without a historical duration (e.g.,
+ * a new one) is estimated by the average duration. Every shard reads the same scenarios and timings, so it computes the
+ * same split independently.
+ * <p>
+ * Used as {@code @RunWith(ShardedCucumber.class)} instead of {@code @RunWith(Cucumber.class)}, and configured by the
+ * system properties:
+ * <ul>
+ *     <li>{@code andromeda.shard.index} - the index of the shard to run, from 0</li>
+ *     <li>{@code andromeda.shard.total} - the number of shards, where all the scenarios run when it isn't set</li>
+ *     <li>{@code andromeda.shard.timings} - the comma separated {@link TimingPlugin} reports of the previous run,
+ *     {@code target/andromeda-timings.json} by default</li>
+ * </ul>
+ * The suites running on the JUnit Platform engine are sharded by the {@link ShardingPostDiscoveryFilter} instead.
+ */
+@Slf4j
+public class ShardedCucumber extends Runner implements Filterable {
+
+	private final Cucumber delegate;
+
+	public ShardedCucumber(final Class<?> testClass) throws InitializationError {
+		this.delegate = new Cucumber(testClass);
+		final ShardConfiguration configuration = ShardConfiguration.fromSystemProperties();
+		if (configuration.isSharded()) {
+			selectShard(configuration);
+		}
+	}
+
+	@Override
+	public Description getDescription() {
+		return delegate.getDescription();
+	}
+
+	@Override
+	public void run(final RunNotifier notifier) {
+		delegate.run(notifier);
+	}
+
+	@Override
+	public void filter(final Filter filter) throws NoTestsRemainException {
+		delegate.filter(filter);
+	}
+
+	private void selectShard(final ShardConfiguration configuration) {
+		final int shardIndex = configuration.shardIndex();
+		final int shardsCount = configuration.shardsCount();
+		final ScenarioTimings timings = ScenarioTimings.read(configuration.timingReports());
+		final long averageDurationMs = timings.averageDurationMs();
+
+		// The features are the children of the suite and the scenarios are the children of their feature
+		final List<ScenarioDescription> scenarios = new ArrayList<>();
+		for (Description feature : getDescription().getChildren()) {
+			for (Description scenario : feature.getChildren()) {
+				final String scenarioName = scenario.getMethodName() != null
+						? scenario.getMethodName()
+						: scenario.getDisplayName();
+				final OptionalLong durationMs = timings.durationMs(feature.getDisplayName(), scenarioName);
+				scenarios.add(new ScenarioDescription(feature, scenario,
+						Math.max(1, durationMs.orElse(averageDurationMs)), durationMs.isPresent()));
+			}
+		}
+		final List<ScenarioDescription> shard = ScenarioShards.split(scenarios, ScenarioDescription::durationMs,
+				shardsCount).get(shardIndex);
+
+		final Set<Description> runnableDescriptions = new HashSet<>();
+		shard.forEach(scenario -> {
+			runnableDescriptions.add(scenario.feature());
+			addWithChildren(runnableDescriptions, scenario.scenario());
+		});
+		try {
+			delegate.filter(new Filter() {
+				@Override
+				public boolean shouldRun(final Description description) {
+					return runnableDescriptions.contains(description);
+				}
+
+				@Override
+				public String describe() {
+					return configuration.describe();
+				}
+			});
+		} catch (NoTestsRemainException e) {
+			// There are more shards than scenarios
+			log.warn("Scenario shard is empty [shardIndex={}, shardsCount={}]", shardIndex, shardsCount);
+		}
+		log.info("Scenario shard selected [shardIndex={}, shardsCount={}, scenarios={}, totalScenarios={}, "
+						+ "estimatedMs={}, scenariosWithoutTimings={}]", shardIndex, shardsCount, shard.size(),
+				scenarios.size(), shard.stream().mapToLong(ScenarioDescription::durationMs).sum(),
+				shard.stream().filter(scenario -> !scenario.hasTimings()).count());
+	}
+
+	private static void addWithChildren(final Set<Description> descriptions, final Description description) {
+		descriptions.add(description);
+		// The scenarios have their steps as children when the step notifications are enabled
+		description.getChildren().forEach(child -> addWithChildren(descriptions, child));
+	}
+
+	private record ScenarioDescription(Description feature, Description scenario, long durationMs,
+	                                   boolean hasTimings) {
+	}
+}
@@ -0,0 +1,109 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A JUnit Platform filter running the Cucumber scenarios of a single shard, the counterpart of {@link ShardedCucumber}
+ * for the suites running on the JUnit Platform engine. It's registered through the {@code ServiceLoader}, so it applies
+ * to every discovery, and it's configured by the same {@code andromeda.shard.*} system properties. The tests not
+ * belonging to a Cucumber feature always run.
+ * <p>
+ * A scenario is matched to its historical duration by its feature name and display name, so the examples of the
+ * scenario outlines are named after their pickles with
+ * {@code cucumber.junit-platform.naming-strategy.short.example-name=pickle}.
+ */
+@Slf4j
+public class ShardingPostDiscoveryFilter implements PostDiscoveryFilter {
+
+	private static final String FEATURE_SEGMENT_TYPE = "feature";
+
+	private final ShardConfiguration configuration;
+	// The filter is applied to every test, while the shard is selected once per discovered tests tree
+	private final Map<TestDescriptor, Set<UniqueId>> shardScenarios = Collections.synchronizedMap(
+			new IdentityHashMap<>());
+
+	public ShardingPostDiscoveryFilter() {
+		this(ShardConfiguration.fromSystemProperties());
+	}
+
+	ShardingPostDiscoveryFilter(final ShardConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	@Override
+	public FilterResult apply(final TestDescriptor descriptor) {
+		if (!configuration.isSharded() || !descriptor.isTest() || feature(descriptor).isEmpty()) {
+			return FilterResult.included("Not a sharded Cucumber scenario");
+		}
+		final Set<UniqueId> scenarios = shardScenarios.computeIfAbsent(root(descriptor), this::selectShard);
+		return FilterResult.includedIf(scenarios.contains(descriptor.getUniqueId()), configuration::describe,
+				() -> "Not in " + configuration.describe());
+	}
+
+	private Set<UniqueId> selectShard(final TestDescriptor root) {
+		final ScenarioTimings timings = ScenarioTimings.read(configuration.timingReports());
+		final long averageDurationMs = timings.averageDurationMs();
+
+		// Visited in the discovery order, so every shard lists the scenarios in the same order
+		final List<ScenarioDescriptor> scenarios = new ArrayList<>();
+		root.accept(descriptor -> {
+			if (descriptor.isTest()) {
+				feature(descriptor).ifPresent(feature -> {
+					final OptionalLong durationMs = timings.durationMs(feature.getDisplayName(),
+							descriptor.getDisplayName());
+					scenarios.add(new ScenarioDescriptor(descriptor.getUniqueId(),
+							Math.max(1, durationMs.orElse(averageDurationMs)), durationMs.isPresent()));
+				});
+			}
+		});
+		final List<ScenarioDescriptor> shard = ScenarioShards.split(scenarios, ScenarioDescriptor::durationMs,
+				configuration.shardsCount()).get(configuration.shardIndex());
+
+		if (shard.isEmpty()) {
+			// There are more shards than scenarios
+			log.warn("Scenario shard is empty [shardIndex={}, shardsCount={}]", configuration.shardIndex(),
+					configuration.shardsCount());
+		}
+		log.info("Scenario shard selected [shardIndex={}, shardsCount={}, scenarios={}, totalScenarios={}, "
+						+ "estimatedMs={}, scenariosWithoutTimings={}]", configuration.shardIndex(),
+				configuration.shardsCount(), shard.size(), scenarios.size(),
+				shard.stream().mapToLong(ScenarioDescriptor::durationMs).sum(),
+				shard.stream().filter(scenario -> !scenario.hasTimings()).count());
+		return shard.stream().map(ScenarioDescriptor::uniqueId).collect(Collectors.toSet());
+	}
+
+	private static Optional<TestDescriptor> feature(final TestDescriptor descriptor) {
+		Optional<TestDescriptor> ancestor = descriptor.getParent();
+		while (ancestor.isPresent() && !FEATURE_SEGMENT_TYPE.equals(
+				ancestor.get().getUniqueId().getLastSegment().getType())) {
+			ancestor = ancestor.get().getParent();
+		}
+		return ancestor;
+	}
+
+	private static TestDescriptor root(final TestDescriptor descriptor) {
+		TestDescriptor root = descriptor;
+		while (root.getParent().isPresent()) {
+			root = root.getParent().get();
+		}
+		return root;
+	}
+
+	private record ScenarioDescriptor(UniqueId uniqueId, long durationMs, boolean hasTimings) {
+	}
+}
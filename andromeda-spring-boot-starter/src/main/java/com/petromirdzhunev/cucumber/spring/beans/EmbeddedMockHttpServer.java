@@ -0,0 +1,214 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import com.petromirdzhunev.cucumber.http.ReceivedCall;
+import com.petromirdzhunev.cucumber.http.ReceivedRequest;
+import com.petromirdzhunev.cucumber.http.ResponseFaults;
+import com.petromirdzhunev.cucumber.http.StubExpectation;
+import com.petromirdzhunev.cucumber.http.StubResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component running a lean in-process mock HTTP server on the JDK {@link HttpServer}, handling every request
+ * on a virtual thread. The expectations are registered in memory, without a control plane round trip, and are indexed
+ * by method and path, so a request is matched only against the expectations for its method and path, in their
+ * registration order. An unmatched request gets a 404 response. The {@link ResponseFaults} of the responses are applied
+ * on the virtual thread handling the request, so slow responses don't hold back the other requests.
+ * <p>
+ * The server is started on the first {@code [HTTP] mock server ...} step, or when its port chosen by the operating
+ * system is first resolved.
+ * <p>
+ * Enabled by {@code andromeda.mock.http-server.provider=embedded}.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "andromeda.mock.http-server.provider", havingValue = "embedded")
+public class EmbeddedMockHttpServer implements MockHttpServer {
+
+	private static final int NOT_FOUND = 404;
+	private static final Queue<ReceivedCall> EMPTY_CALLS = new ConcurrentLinkedQueue<>();
+
+	private final Map<String, List<StubExpectation>> expectations = new ConcurrentHashMap<>();
+	// The received requests log, indexed by path
+	private final Map<String, Queue<ReceivedCall>> receivedCalls = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	// 0 when the port is chosen by the operating system, see MockHttpServerPortPropertySource
+	@Value("${andromeda.mock.http-server.bind-port:${mock.http-server.port}}")
+	private Integer mockHttpServerPort;
+
+	private volatile HttpServer delegate;
+
+	@Override
+	public void start() {
+		// Started once, while every mock server step calls it
+		if (delegate == null) {
+			synchronized (this) {
+				if (delegate == null) {
+					delegate = startServer();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void reset() {
+		expectations.clear();
+		receivedCalls.clear();
+	}
+
+	@Override
+	public int port() {
+		final HttpServer server = delegate;
+		return server == null ? mockHttpServerPort : server.getAddress().getPort();
+	}
+
+	public void register(final StubExpectation expectation) {
+		expectations.computeIfAbsent(expectation.key(), key -> new CopyOnWriteArrayList<>()).add(expectation);
+	}
+
+	public int receivedRequestsCount(final String path) {
+		return receivedCalls.getOrDefault(path, EMPTY_CALLS).size();
+	}
+
+	public List<ReceivedCall> receivedCalls() {
+		return receivedCalls.values().stream()
+		                    .flatMap(Queue::stream)
+		                    .sorted(Comparator.comparing(ReceivedCall::receivedAt))
+		                    .toList();
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		if (delegate != null) {
+			delegate.stop(0);
+			delegate = null;
+		}
+		executor.close();
+	}
+
+	private HttpServer startServer() {
+		final long startTime = System.nanoTime();
+		final HttpServer server;
+		try {
+			server = HttpServer.create(new InetSocketAddress(mockHttpServerPort), 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to start embedded mock HTTP server [port=%d]"
+					.formatted(mockHttpServerPort), e);
+		}
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+		log.info("Embedded mock HTTP server started [port={}, durationMs={}]", server.getAddress().getPort(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		return server;
+	}
+
+	private void handle(final HttpExchange exchange) throws IOException {
+		final Instant receivedAt = Instant.now();
+		final String method = exchange.getRequestMethod();
+		final String path = exchange.getRequestURI().getPath();
+		int statusCode = 0;
+		try (exchange) {
+			final ReceivedRequest request = receivedRequest(exchange);
+			final StubExpectation expectation = expectations.getOrDefault(StubExpectation.key(request.method(),
+					                                                request.path()), List.of())
+			                                                .stream()
+			                                                .filter(candidate -> candidate.matcher().test(request))
+			                                                .findFirst()
+			                                                .orElse(null);
+			if (expectation == null) {
+				log.warn("No expectation matches the mock HTTP server request [method={}, path={}]", request.method(),
+						request.path());
+				statusCode = NOT_FOUND;
+				exchange.sendResponseHeaders(NOT_FOUND, -1);
+				return;
+			}
+			final long callNumber = expectation.matchedCalls().incrementAndGet();
+			final StubResponse response = expectation.response();
+			final ResponseFaults faults = response.faults();
+			sleep(faults.nextDelay());
+			if (faults.dropConnection()) {
+				// Closing the exchange before sending the response headers closes the connection
+				return;
+			}
+			if (faults.isFailingCall(callNumber)) {
+				statusCode = faults.failureStatusCode();
+				exchange.sendResponseHeaders(statusCode, -1);
+				return;
+			}
+			statusCode = response.statusCode();
+			if (response.contentType() != null) {
+				exchange.getResponseHeaders().set("Content-Type", response.contentType());
+			}
+			final byte[] body = response.body();
+			if (body.length == 0 || "HEAD".equals(request.method())) {
+				exchange.sendResponseHeaders(response.statusCode(), -1);
+				return;
+			}
+			// A zero length is a chunked response
+			exchange.sendResponseHeaders(response.statusCode(), faults.isChunked() ? 0 : body.length);
+			try (OutputStream responseBody = exchange.getResponseBody()) {
+				if (!faults.isChunked()) {
+					responseBody.write(body);
+					return;
+				}
+				for (int offset = 0; offset < body.length; offset += faults.chunkSize()) {
+					if (offset > 0) {
+						sleep(faults.chunkDelay());
+					}
+					responseBody.write(body, offset, Math.min(faults.chunkSize(), body.length - offset));
+					responseBody.flush();
+				}
+			}
+		} finally {
+			receivedCalls.computeIfAbsent(path, key -> new ConcurrentLinkedQueue<>())
+			             .add(new ReceivedCall(method, path, receivedAt, statusCode));
+		}
+	}
+
+	private static void sleep(final Duration duration) throws InterruptedIOException {
+		if (duration.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			// The server is stopping, so the exchange is abandoned instead of being answered ahead of time
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Mock HTTP server response interrupted");
+		}
+	}
+
+	private static ReceivedRequest receivedRequest(final HttpExchange exchange) throws IOException {
+		final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(exchange.getRequestHeaders());
+		return new ReceivedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), headers,
+				ReceivedRequest.decodedParameters(exchange.getRequestURI().getRawQuery()),
+				exchange.getRequestBody().readAllBytes());
+	}
+}
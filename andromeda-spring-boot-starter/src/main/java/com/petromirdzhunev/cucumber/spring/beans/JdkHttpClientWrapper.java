@@ -0,0 +1,50 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * A Spring component sharing one JDK {@link HttpClient} across all the scenarios, so its pooled connections are reused
+ * instead of being opened by every scenario. The client is created by the first scenario sending a request.
+ * <p>
+ * The client speaks HTTP/1.1 by default, since an HTTP/2 client sends h2c {@code Upgrade} headers with every plain
+ * {@code http://} request, which changes the traffic under test. {@code andromeda.http-client.version=HTTP_2} opts in.
+ * <p>
+ * Enabled by {@code andromeda.http-client.provider=jdk}.
+ */
+@Lazy
+@ConditionalOnProperty(name = "andromeda.http-client.provider", havingValue = "jdk")
+public class JdkHttpClientWrapper {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final HttpClient delegate;
+
+	public JdkHttpClientWrapper(
+			@Value("${andromeda.http-client.version:HTTP_1_1}") final HttpClient.Version version,
+			@Value("${andromeda.http-client.connect-timeout:PT10S}") final Duration connectTimeout) {
+		this.delegate = HttpClient.newBuilder()
+		                          .version(version)
+		                          .followRedirects(HttpClient.Redirect.NORMAL)
+		                          .connectTimeout(connectTimeout)
+		                          .executor(executor)
+		                          .build();
+	}
+
+	public HttpClient delegate() {
+		return delegate;
+	}
+
+	@PreDestroy
+	public void close() {
+		delegate.close();
+		executor.close();
+	}
+}
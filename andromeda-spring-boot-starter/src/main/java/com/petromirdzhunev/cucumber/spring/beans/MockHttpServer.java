@@ -0,0 +1,19 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+/**
+ * Lifecycle of the mock HTTP server standing in for the services called by the application under test.
+ */
+public interface MockHttpServer {
+
+	void start();
+
+	/**
+	 * Removes all the expectations, so the next scenario starts from scratch.
+	 */
+	void reset();
+
+	/**
+	 * @return the port the server listens on once started, which may have been chosen by the operating system
+	 */
+	int port();
+}
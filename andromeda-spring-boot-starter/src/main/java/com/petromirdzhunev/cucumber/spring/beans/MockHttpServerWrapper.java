@@ -1,31 +1,92 @@
 package com.petromirdzhunev.cucumber.spring.beans;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.MediaType;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import com.petromirdzhunev.cucumber.parallel.ExclusiveResources;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * A Spring component managing MockServer integration by exposing the sever port.
+ * <p>
+ * The server is started on the first {@code [HTTP] mock server ...} step, or when its port chosen by the operating
+ * system is first resolved, so the suites not mocking any service don't wait on the MockServer startup. It's stopped
+ * with the Spring context, so every context owns one server.
+ * <p>
+ * The server is shared by the scenarios running in parallel, and {@link #reset()} clears the expectations of all of
+ * them, so the scenarios using it hold the {@link ExclusiveResources#MOCK_HTTP_SERVER} resource.
+ * <p>
+ * Enabled by default or by {@code andromeda.mock.http-server.provider=mockserver}.
  */
-@Component
-public class MockHttpServerWrapper {
+@Slf4j
+@ConditionalOnProperty(name = "andromeda.mock.http-server.provider", havingValue = "mockserver", matchIfMissing = true)
+public class MockHttpServerWrapper implements MockHttpServer {
+
+	private final Map<String, MediaType> mediaTypes = new ConcurrentHashMap<>();
 
-	@Value("${mock.http-server.port}")
-	private Integer mockHttpServerPort;
+	// 0 when the port is chosen by the operating system, see MockHttpServerPortPropertySource
+	private final Integer mockHttpServerPort;
 
-	private ClientAndServer delegate;
+	// Written once by the first scenario starting the server, and read by the scenarios running in parallel
+	private volatile ClientAndServer delegate;
 
+	public MockHttpServerWrapper(
+			@Value("${andromeda.mock.http-server.bind-port:${mock.http-server.port}}") final Integer mockHttpServerPort) {
+		this.mockHttpServerPort = mockHttpServerPort;
+	}
+
+	@Override
 	public void start() {
+		// Started once, while every mock server step calls it
 		if (delegate == null) {
-			delegate = ClientAndServer.startClientAndServer(mockHttpServerPort);
+			synchronized (this) {
+				if (delegate == null) {
+					final long startTime = System.nanoTime();
+					delegate = ClientAndServer.startClientAndServer(mockHttpServerPort);
+					log.info("MockServer started [port={}, durationMs={}]", delegate.getPort(),
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+				}
+			}
+		}
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		if (delegate != null) {
+			delegate.stop();
+			delegate = null;
 		}
 	}
 
+	@Override
 	public void reset() {
-		delegate.reset();
+		if (delegate != null) {
+			delegate.reset();
+		}
+	}
+
+	@Override
+	public int port() {
+		final ClientAndServer server = delegate;
+		return server == null ? mockHttpServerPort : server.getPort();
 	}
 
 	public ClientAndServer delegate() {
 		return delegate;
 	}
+
+	/**
+	 * @return the parsed content type, parsed once per run, as the scenarios use a handful of them
+	 */
+	public MediaType mediaType(final String contentType) {
+		return mediaTypes.computeIfAbsent(contentType, MediaType::parse);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.petromirdzhunev.cucumber.database.CsvLine;
+import com.petromirdzhunev.cucumber.exception.BulkLoadException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component loading rows through the PostgreSQL {@code COPY ... FROM STDIN} protocol. The rows are streamed
+ * to the server in fixed size chunks, so neither the rows nor the fixture files are fully loaded in memory.
+ */
+@Slf4j
+public class PostgreSQLBulkLoader {
+
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+	private static final String UTF8_BOM = "\uFEFF";
+
+	private final DSLContext db;
+	// FIXME: Replace with JsonConverter once the library is released.
+	private final ObjectMapper objectMapper;
+	private final int bulkLoadThreshold;
+
+	public PostgreSQLBulkLoader(final DSLContext db, final ObjectMapper objectMapper,
+			@Value("${andromeda.database.bulk-load-threshold:500}") final int bulkLoadThreshold) {
+		this.db = db;
+		this.objectMapper = objectMapper;
+		this.bulkLoadThreshold = bulkLoadThreshold;
+	}
+
+	/**
+	 * @return whether the given number of rows is large enough to be loaded with {@code COPY} instead of batched inserts
+	 */
+	public boolean isWorthBulkLoading(final int rowsCount) {
+		return rowsCount >= bulkLoadThreshold;
+	}
+
+	/**
+	 * Streams the rows into the table. A {@code null} value is loaded as {@code NULL}.
+	 *
+	 * @return the number of loaded rows
+	 */
+	public long load(final String tableName, final List<String> columnNames,
+			final Iterator<? extends List<String>> rows) {
+		final long startTime = System.nanoTime();
+		final long loadedRows = db.connectionResult(connection -> {
+			final CopyIn copyIn = connection.unwrap(PGConnection.class)
+			                                .getCopyAPI()
+			                                .copyIn(copySql(tableName, columnNames));
+			try {
+				final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+				while (rows.hasNext()) {
+					appendCsvRow(buffer, rows.next());
+					if (buffer.length() >= COPY_BUFFER_SIZE) {
+						writeToCopy(copyIn, buffer);
+					}
+				}
+				writeToCopy(copyIn, buffer);
+				return copyIn.endCopy();
+			} finally {
+				if (copyIn.isActive()) {
+					copyIn.cancelCopy();
+				}
+			}
+		});
+		logThroughput(tableName, loadedRows, startTime);
+		return loadedRows;
+	}
+
+	/**
+	 * Streams the content of a CSV (with a header line) or a JSON lines ({@code .jsonl}/{@code .ndjson}) file into the
+	 * table. The file is looked up on the file system first and then on the classpath.
+	 *
+	 * @return the number of loaded rows
+	 */
+	public long loadFile(final String tableName, final String filePath) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(openFile(filePath),
+				StandardCharsets.UTF_8))) {
+			if (filePath.endsWith(".csv")) {
+				return loadCsv(tableName, reader);
+			}
+			if (filePath.endsWith(".jsonl") || filePath.endsWith(".ndjson")) {
+				return loadJsonLines(tableName, reader);
+			}
+			throw new BulkLoadException("Unsupported fixture file format [path=%s]".formatted(filePath));
+		} catch (IOException e) {
+			throw new BulkLoadException("Failed to read fixture file [path=%s]".formatted(filePath), e);
+		}
+	}
+
+	private long loadCsv(final String tableName, final BufferedReader reader) throws IOException {
+		final String header = reader.readLine();
+		if (header == null) {
+			return 0;
+		}
+		// The header is trimmed, unlike the rows, which are parsed by COPY as they are
+		final List<String> columnNames = CsvLine.split(header.replace(UTF8_BOM, "")).stream().map(String::strip).toList();
+
+		final long startTime = System.nanoTime();
+		// The rest of the file is already in the COPY CSV format, so it is passed through as it is
+		final String copySql = copySql(tableName, columnNames);
+		final long loadedRows = db.connectionResult(connection -> connection.unwrap(PGConnection.class)
+		                                                                    .getCopyAPI()
+		                                                                    .copyIn(copySql, reader, COPY_BUFFER_SIZE));
+		logThroughput(tableName, loadedRows, startTime);
+		return loadedRows;
+	}
+
+	private long loadJsonLines(final String tableName, final Reader reader) throws IOException {
+		final MappingIterator<ObjectNode> jsonRows = objectMapper.readerFor(ObjectNode.class).readValues(reader);
+		if (!jsonRows.hasNext()) {
+			return 0;
+		}
+		final ObjectNode firstRow = jsonRows.next();
+		final List<String> columnNames = new ArrayList<>();
+		firstRow.fieldNames().forEachRemaining(columnNames::add);
+
+		final Iterator<List<String>> rows = new Iterator<>() {
+			private ObjectNode nextRow = firstRow;
+
+			@Override
+			public boolean hasNext() {
+				return nextRow != null || jsonRows.hasNext();
+			}
+
+			@Override
+			public List<String> next() {
+				final ObjectNode row = nextRow != null ? nextRow : jsonRows.next();
+				nextRow = null;
+				return columnNames.stream().map(columnName -> cellValue(row.get(columnName))).toList();
+			}
+		};
+		return load(tableName, columnNames, rows);
+	}
+
+	private String cellValue(final JsonNode value) {
+		if (value == null || value.isNull()) {
+			return null;
+		}
+		// Nested objects and arrays are loaded as their JSON representation (e.g., into json/jsonb columns)
+		return value.isContainerNode() ? value.toString() : value.asText();
+	}
+
+	private String copySql(final String tableName, final List<String> columnNames) {
+		return "COPY %s (%s) FROM STDIN (FORMAT csv)".formatted(db.render(DSL.name(tableName)),
+				columnNames.stream().map(columnName -> db.render(DSL.name(columnName)))
+				           .collect(Collectors.joining(",")));
+	}
+
+	private static void appendCsvRow(final StringBuilder buffer, final List<String> row) {
+		for (int i = 0; i < row.size(); i++) {
+			if (i > 0) {
+				buffer.append(',');
+			}
+			final String value = row.get(i);
+			// An unquoted empty value is NULL, while a quoted one is an empty string
+			if (value != null) {
+				buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+			}
+		}
+		buffer.append('\n');
+	}
+
+	private static void writeToCopy(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+		if (!buffer.isEmpty()) {
+			final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+			copyIn.writeToCopy(bytes, 0, bytes.length);
+			buffer.setLength(0);
+		}
+	}
+
+	private static InputStream openFile(final String filePath) throws IOException {
+		final Path path = Path.of(filePath);
+		if (Files.isRegularFile(path)) {
+			return Files.newInputStream(path);
+		}
+		final InputStream resource = PostgreSQLBulkLoader.class.getClassLoader().getResourceAsStream(filePath);
+		if (resource == null) {
+			throw new BulkLoadException("Fixture file not found [path=%s]".formatted(filePath));
+		}
+		return resource;
+	}
+
+	private static void logThroughput(final String tableName, final long loadedRows, final long startTime) {
+		final long durationNanos = Math.max(System.nanoTime() - startTime, 1);
+		log.info("Rows bulk loaded [table={}, rows={}, durationMs={}, rowsPerSecond={}]", tableName, loadedRows,
+				TimeUnit.NANOSECONDS.toMillis(durationNanos), loadedRows * TimeUnit.SECONDS.toNanos(1) / durationNanos);
+	}
+}
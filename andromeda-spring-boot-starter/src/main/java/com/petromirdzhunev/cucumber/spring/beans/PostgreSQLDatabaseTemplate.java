@@ -0,0 +1,167 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+
+import com.petromirdzhunev.cucumber.exception.DatabaseIsolationException;
+import com.petromirdzhunev.cucumber.spring.datasource.HikariDataSources;
+import com.petromirdzhunev.cucumber.spring.datasource.SwitchableDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component isolating the scenarios by cloning a PostgreSQL template database instead of truncating the
+ * tables. The seeded database is captured with {@link #snapshot()}, by the
+ * {@code [DB] the current database is captured as the template} step, and every {@link #restore()} creates a fresh
+ * clone of it ({@code CREATE DATABASE ... TEMPLATE}), re-points the application {@link DataSource} to the clone and drops
+ * the previous one.
+ * <p>
+ * Enabled by {@code andromeda.database.isolation=template}.
+ */
+@Slf4j
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "andromeda.database.isolation", havingValue = "template")
+public class PostgreSQLDatabaseTemplate {
+
+	private static final Pattern JDBC_URL_PATTERN = Pattern.compile("^(jdbc:postgresql://[^/]*/)([^?]*)(.*)$");
+
+	private final SwitchableDataSource dataSource;
+	private final HikariConfig originalConfig;
+	private final String originalDatabaseName;
+	private final String templateDatabaseName;
+	private final String maintenanceDatabaseName;
+	private final AtomicInteger cloneCounter = new AtomicInteger();
+	private String activeDatabaseName;
+	private boolean snapshotCaptured;
+
+	public PostgreSQLDatabaseTemplate(final DataSource dataSource,
+			@Value("${andromeda.database.template.maintenance-database:postgres}") final String maintenanceDatabaseName) {
+		try {
+			this.dataSource = dataSource.unwrap(SwitchableDataSource.class);
+			this.originalConfig = (HikariDataSource) this.dataSource.getTargetDataSource();
+		} catch (SQLException | ClassCastException e) {
+			throw new DatabaseIsolationException("Template isolation requires a Hikari data source", e);
+		}
+		this.originalDatabaseName = databaseName(originalConfig.getJdbcUrl());
+		this.templateDatabaseName = originalDatabaseName + "_template";
+		this.maintenanceDatabaseName = maintenanceDatabaseName;
+		this.activeDatabaseName = originalDatabaseName;
+	}
+
+	/**
+	 * Captures the current content of the application database as the template all the scenarios start from.
+	 */
+	public synchronized void snapshot() {
+		final long startTime = System.nanoTime();
+
+		// PostgreSQL refuses to copy a database while there are other sessions connected to it
+		closeActiveDataSource();
+		executeMaintenance("""
+				SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE
+				datname = '%s' AND
+				pid <> pg_backend_pid()
+				""".formatted(activeDatabaseName));
+		executeMaintenance("DROP DATABASE IF EXISTS \"%s\"".formatted(templateDatabaseName));
+		executeMaintenance("CREATE DATABASE \"%s\" TEMPLATE \"%s\"".formatted(templateDatabaseName, activeDatabaseName));
+		snapshotCaptured = true;
+
+		log.info("Database template captured [template={}, source={}, durationMs={}]", templateDatabaseName,
+				activeDatabaseName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		restore();
+	}
+
+	/**
+	 * Re-points the application to a fresh clone of the template captured by {@link #snapshot()}.
+	 */
+	public synchronized void restore() {
+		if (!snapshotCaptured) {
+			throw new DatabaseIsolationException("Database template is not captured [template=%s]"
+					.formatted(templateDatabaseName));
+		}
+		final long startTime = System.nanoTime();
+
+		final String cloneDatabaseName = "%s_clone_%d".formatted(originalDatabaseName, cloneCounter.incrementAndGet());
+		executeMaintenance("CREATE DATABASE \"%s\" TEMPLATE \"%s\"".formatted(cloneDatabaseName, templateDatabaseName));
+		final DataSource previousDataSource = dataSource.switchTo(cloneDataSource(cloneDatabaseName));
+		final String previousDatabaseName = activeDatabaseName;
+		activeDatabaseName = cloneDatabaseName;
+		dropClone(previousDataSource, previousDatabaseName);
+
+		log.info("Database restored from template [template={}, clone={}, durationMs={}]", templateDatabaseName,
+				cloneDatabaseName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+	}
+
+	public synchronized boolean isSnapshotCaptured() {
+		return snapshotCaptured;
+	}
+
+	@PreDestroy
+	public synchronized void destroy() {
+		if (snapshotCaptured) {
+			dropClone(dataSource.getTargetDataSource(), activeDatabaseName);
+			executeMaintenance("DROP DATABASE IF EXISTS \"%s\" WITH (FORCE)".formatted(templateDatabaseName));
+		}
+	}
+
+	private void dropClone(final DataSource cloneDataSource, final String cloneDatabaseName) {
+		if (cloneDataSource instanceof HikariDataSource hikariDataSource && hikariDataSource != originalConfig) {
+			hikariDataSource.close();
+		}
+		if (!originalDatabaseName.equals(cloneDatabaseName)) {
+			executeMaintenance("DROP DATABASE IF EXISTS \"%s\" WITH (FORCE)".formatted(cloneDatabaseName));
+		}
+	}
+
+	private void closeActiveDataSource() {
+		if (dataSource.getTargetDataSource() instanceof HikariDataSource hikariDataSource) {
+			hikariDataSource.close();
+		}
+	}
+
+	private HikariDataSource cloneDataSource(final String databaseName) {
+		return HikariDataSources.copyOf(originalConfig, databaseName,
+				cloneConfig -> cloneConfig.setJdbcUrl(jdbcUrl(databaseName)));
+	}
+
+	private void executeMaintenance(final String sql) {
+		// CREATE/DROP DATABASE can't be executed neither inside a transaction nor while connected to the same database
+		try (Connection connection = DriverManager.getConnection(jdbcUrl(maintenanceDatabaseName),
+				originalConfig.getUsername(), originalConfig.getPassword());
+		     Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		} catch (SQLException e) {
+			throw new DatabaseIsolationException("Failed to execute maintenance statement [sql=%s]".formatted(sql), e);
+		}
+	}
+
+	private String jdbcUrl(final String databaseName) {
+		final Matcher matcher = JDBC_URL_PATTERN.matcher(originalConfig.getJdbcUrl());
+		if (!matcher.matches()) {
+			throw new DatabaseIsolationException("Unsupported JDBC URL [url=%s]".formatted(originalConfig.getJdbcUrl()));
+		}
+		return matcher.group(1) + databaseName + matcher.group(3);
+	}
+
+	private static String databaseName(final String jdbcUrl) {
+		final Matcher matcher = JDBC_URL_PATTERN.matcher(jdbcUrl);
+		if (!matcher.matches()) {
+			throw new DatabaseIsolationException("Unsupported JDBC URL [url=%s]".formatted(jdbcUrl));
+		}
+		return matcher.group(2);
+	}
+}
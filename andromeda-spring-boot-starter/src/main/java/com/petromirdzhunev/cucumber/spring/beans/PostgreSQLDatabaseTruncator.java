@@ -1,38 +1,115 @@
 package com.petromirdzhunev.cucumber.spring.beans;
 
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jooq.DSLContext;
+import org.jooq.Name;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
-import org.springframework.stereotype.Component;
+
+import com.petromirdzhunev.cucumber.parallel.ExclusiveResources;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * A Spring component responsible to truncate all the tables except the one created by the migration tools (e.g.,
  * Flyway, Liquibase, etc.)
+ * <p>
+ * The table list is loaded once per run and only the tables written since the previous cleanup are truncated, using a
+ * single {@code TRUNCATE ... RESTART IDENTITY CASCADE} statement. A table is considered written when it still has rows
+ * or when its {@code pg_stat_user_tables} modification counters changed since the previous cleanup. The row check
+ * covers the statistics being reported with a delay by the server.
  */
-@Component
+@Slf4j
 @RequiredArgsConstructor
 @DependsOnDatabaseInitialization
 public class PostgreSQLDatabaseTruncator {
 
 	private final DSLContext db;
+	private List<String> tableNames;
+	private Map<String, Long> tableModifications = Map.of();
 
-	public void truncate() {
-		String[] deleteTableSqlStatements = db
-				.fetchMany("""
-					SELECT table_name FROM information_schema.tables WHERE 
-					table_schema = 'public' AND
-					table_name != 'databasechangelog' AND 
-					table_name != 'databasechangeloglock'AND
-					table_type = 'BASE TABLE'
-					""")
+	/**
+	 * Synchronized, as the modification counters are shared by the scenarios running in parallel. Truncating the tables
+	 * under a running scenario is still up to the scenarios, which hold the {@link ExclusiveResources#DATABASE} resource.
+	 */
+	public synchronized void truncate() {
+		final long startTime = System.nanoTime();
+
+		final Set<String> dirtyTableNames = dirtyTableNames();
+		if (!dirtyTableNames.isEmpty()) {
+			db.truncate(dirtyTableNames.stream().map(DSL::name).toArray(Name[]::new))
+			  .restartIdentity()
+			  .cascade()
+			  .execute();
+		}
+		tableModifications = tableModifications();
+
+		log.info("Database cleanup finished [truncatedTables={}, totalTables={}, durationMs={}]",
+				dirtyTableNames.size(), tableNames().size(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+	}
+
+	private Set<String> dirtyTableNames() {
+		final Set<String> dirtyTableNames = new LinkedHashSet<>(nonEmptyTableNames());
+		tableModifications().forEach((tableName, modifications) -> {
+			if (!Objects.equals(tableModifications.get(tableName), modifications)) {
+				dirtyTableNames.add(tableName);
+			}
+		});
+		return dirtyTableNames;
+	}
+
+	private List<String> nonEmptyTableNames() {
+		if (tableNames().isEmpty()) {
+			return List.of();
+		}
+		// A single round-trip checking all the tables, instead of a query per table
+		final Select<Record1<String>> nonEmptyTablesQuery = tableNames()
 				.stream()
-				.flatMap(Collection::stream)
-				.map(result -> "DELETE FROM %s".formatted(result.get(0)))
-				.toArray(String[]::new);
+				.<Select<Record1<String>>>map(tableName -> DSL.select(DSL.inline(tableName))
+				                                              .whereExists(DSL.selectOne()
+				                                                              .from(DSL.table(DSL.name(tableName)))))
+				.reduce(Select::unionAll)
+				.orElseThrow();
+		return db.fetch(nonEmptyTablesQuery).getValues(0, String.class);
+	}
 
-		db.batch(deleteTableSqlStatements).execute();
+	private Map<String, Long> tableModifications() {
+		final Map<String, Long> modifications = new HashMap<>();
+		db.fetch("""
+				SELECT relname, n_tup_ins + n_tup_upd + n_tup_del FROM pg_stat_user_tables WHERE
+				schemaname = current_schema()
+				""")
+		  .forEach(result -> {
+			  final String tableName = result.get(0, String.class);
+			  if (tableNames().contains(tableName)) {
+				  modifications.put(tableName, result.get(1, Long.class));
+			  }
+		  });
+		return modifications;
+	}
+
+	private List<String> tableNames() {
+		if (tableNames == null) {
+			tableNames = db.fetch("""
+					SELECT table_name FROM information_schema.tables WHERE
+					table_schema = current_schema() AND
+					table_name != 'databasechangelog' AND
+					table_name != 'databasechangeloglock' AND
+					table_type = 'BASE TABLE'
+					""")
+			               .getValues(0, String.class);
+		}
+		return tableNames;
 	}
 }
@@ -0,0 +1,229 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.database.QueryPlan;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A Spring component explaining the queries with {@code EXPLAIN (FORMAT JSON)}, without executing them. The queries
+ * with JDBC parameters are prepared and explained with {@code NULL} parameters under a forced generic plan, so the plan
+ * doesn't depend on the parameter values, which aren't recorded.
+ * <p>
+ * Only the single {@code SELECT} statements are explained. The writes, the batches of statements and the queries whose
+ * parameter types PostgreSQL can't determine without their values aren't explained, so they have no plan.
+ * <p>
+ * The test tables are usually too small for the planner to prefer an index, so the sequential scans can be disabled
+ * for the explained query: then a sequential scan is planned only when no index can be used at all.
+ */
+@RequiredArgsConstructor
+public class PostgreSQLQueryPlanner {
+
+	private static final AtomicLong PREPARED_STATEMENT_ID = new AtomicLong();
+	// The SQL state of "could not determine data type of parameter $n"
+	private static final String INDETERMINATE_DATATYPE = "42P18";
+	private static final Pattern SELECT_PATTERN = Pattern.compile("(?i)\\s*select\\b.*", Pattern.DOTALL);
+	private static final Pattern TRAILING_SEMICOLONS_PATTERN = Pattern.compile("[\\s;]+$");
+
+	private final DSLContext db;
+	// FIXME: Replace with JsonConverter once the library is released.
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @return the plan of the query, or no plan when the statement isn't a single {@code SELECT} or its parameter types
+	 * can't be determined
+	 */
+	public Optional<QueryPlan> explain(final String sql, final boolean disableSequentialScans) {
+		if (!isSingleSelect(sql)) {
+			return Optional.empty();
+		}
+		final StringBuilder parameterizedSql = new StringBuilder(sql.length());
+		final int parametersCount = replaceJdbcParameters(sql, parameterizedSql);
+		final String plan;
+		try {
+			plan = db.transactionResult(configuration -> configuration.dsl().connectionResult(connection -> {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+					if (disableSequentialScans) {
+						statement.execute("SET LOCAL enable_seqscan = off");
+					}
+					if (parametersCount == 0) {
+						return fetchPlan(statement, "EXPLAIN (FORMAT JSON) " + parameterizedSql);
+					}
+					final String statementName = "andromeda_plan_" + PREPARED_STATEMENT_ID.incrementAndGet();
+					statement.execute("PREPARE %s AS %s".formatted(statementName, parameterizedSql));
+					final String preparedPlan = fetchPlan(statement, "EXPLAIN (FORMAT JSON) EXECUTE %s(%s)"
+							.formatted(statementName, String.join(", ", Collections.nCopies(parametersCount, "NULL"))));
+					statement.execute("DEALLOCATE " + statementName);
+					return preparedPlan;
+				}
+			}));
+		} catch (DataAccessException e) {
+			// E.g., a parameter compared only to another parameter, whose type is known only from its value
+			if (INDETERMINATE_DATATYPE.equals(e.sqlState())) {
+				return Optional.empty();
+			}
+			throw e;
+		}
+		try {
+			return Optional.of(new QueryPlan(sql, objectMapper.readTree(plan)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Invalid query plan [sql=%s]".formatted(sql), e);
+		}
+	}
+
+	private static String fetchPlan(final Statement statement, final String explainSql) throws SQLException {
+		try (ResultSet resultSet = statement.executeQuery(explainSql)) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	/**
+	 * @return whether the SQL is a single {@code SELECT} statement, ignoring the comments and a trailing semicolon
+	 */
+	static boolean isSingleSelect(final String sql) {
+		final StringBuilder code = new StringBuilder(sql.length());
+		int index = 0;
+		while (index < sql.length()) {
+			final int tokenEnd = quotedTokenEnd(sql, index);
+			if (tokenEnd > index) {
+				// The comments separate the words, while the literals and the quoted identifiers are kept as a word
+				code.append(isComment(sql, index) ? ' ' : '_');
+				index = tokenEnd;
+			} else {
+				code.append(sql.charAt(index++));
+			}
+		}
+		final String statement = TRAILING_SEMICOLONS_PATTERN.matcher(code).replaceAll("");
+		return statement.indexOf(';') < 0 && SELECT_PATTERN.matcher(statement).matches();
+	}
+
+	/**
+	 * Replaces the JDBC {@code ?} parameters outside of the string literals, the quoted identifiers, the comments and
+	 * the dollar-quoted strings with the PostgreSQL {@code $n} ones, where {@code ??} is the escaped {@code ?}
+	 * operator.
+	 *
+	 * @return the number of parameters
+	 */
+	static int replaceJdbcParameters(final String sql, final StringBuilder parameterizedSql) {
+		int parametersCount = 0;
+		int index = 0;
+		while (index < sql.length()) {
+			final int tokenEnd = quotedTokenEnd(sql, index);
+			if (tokenEnd > index) {
+				parameterizedSql.append(sql, index, tokenEnd);
+				index = tokenEnd;
+				continue;
+			}
+			final char character = sql.charAt(index++);
+			if (character != '?') {
+				parameterizedSql.append(character);
+			} else if (index < sql.length() && sql.charAt(index) == '?') {
+				parameterizedSql.append('?');
+				index++;
+			} else {
+				parameterizedSql.append('$').append(++parametersCount);
+			}
+		}
+		return parametersCount;
+	}
+
+	/**
+	 * @return the end of the string literal, the quoted identifier, the comment or the dollar-quoted string starting at
+	 * the index, or the index when none starts there. An unterminated one ends with the SQL.
+	 */
+	private static int quotedTokenEnd(final String sql, final int index) {
+		final char character = sql.charAt(index);
+		if (character == '\'' || character == '"') {
+			return quotedEnd(sql, index, character);
+		}
+		if (sql.startsWith("--", index)) {
+			final int lineEnd = sql.indexOf('\n', index);
+			return lineEnd < 0 ? sql.length() : lineEnd + 1;
+		}
+		if (sql.startsWith("/*", index)) {
+			return blockCommentEnd(sql, index);
+		}
+		if (character == '$' && (index == 0 || !isIdentifierPart(sql.charAt(index - 1)))) {
+			final int tagEnd = dollarQuoteTagEnd(sql, index);
+			if (tagEnd > index) {
+				final String tag = sql.substring(index, tagEnd);
+				final int closingTag = sql.indexOf(tag, tagEnd);
+				return closingTag < 0 ? sql.length() : closingTag + tag.length();
+			}
+		}
+		return index;
+	}
+
+	private static boolean isComment(final String sql, final int index) {
+		return sql.startsWith("--", index) || sql.startsWith("/*", index);
+	}
+
+	// The quote is escaped by doubling it, e.g., 'It''s'
+	private static int quotedEnd(final String sql, final int index, final char quote) {
+		int position = index + 1;
+		while (position < sql.length()) {
+			if (sql.charAt(position) == quote) {
+				if (position + 1 < sql.length() && sql.charAt(position + 1) == quote) {
+					position += 2;
+					continue;
+				}
+				return position + 1;
+			}
+			position++;
+		}
+		return sql.length();
+	}
+
+	// The block comments nest in PostgreSQL
+	private static int blockCommentEnd(final String sql, final int index) {
+		int depth = 0;
+		int position = index;
+		while (position < sql.length()) {
+			if (sql.startsWith("/*", position)) {
+				depth++;
+				position += 2;
+			} else if (sql.startsWith("*/", position)) {
+				position += 2;
+				if (--depth == 0) {
+					return position;
+				}
+			} else {
+				position++;
+			}
+		}
+		return sql.length();
+	}
+
+	/**
+	 * @return the end of the $tag$ opening a dollar-quoted string, or the index when it isn't one, e.g., for the $1
+	 * parameters
+	 */
+	private static int dollarQuoteTagEnd(final String sql, final int index) {
+		int position = index + 1;
+		if (position < sql.length() && Character.isDigit(sql.charAt(position))) {
+			return index;
+		}
+		while (position < sql.length() && isIdentifierPart(sql.charAt(position)) && sql.charAt(position) != '$') {
+			position++;
+		}
+		return position < sql.length() && sql.charAt(position) == '$' ? position + 1 : index;
+	}
+
+	private static boolean isIdentifierPart(final char character) {
+		return Character.isLetterOrDigit(character) || character == '_' || character == '$';
+	}
+}
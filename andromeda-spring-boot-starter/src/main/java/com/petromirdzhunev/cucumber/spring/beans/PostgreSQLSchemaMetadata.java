@@ -0,0 +1,53 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+
+import com.petromirdzhunev.cucumber.database.ColumnType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A Spring component caching the column types of the current schema, loaded once per run from
+ * {@code information_schema.columns} as the schema doesn't change after the migrations are applied.
+ */
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+public class PostgreSQLSchemaMetadata {
+
+	private final DSLContext db;
+	private volatile Map<String, Map<String, ColumnType>> columnTypes;
+
+	/**
+	 * @return the types of the given columns, where the unknown columns (e.g., expressions) are {@link ColumnType#TEXT}
+	 */
+	public List<ColumnType> columnTypes(final String tableName, final List<String> columnNames) {
+		final Map<String, ColumnType> tableColumnTypes = columnTypes().getOrDefault(tableName, Map.of());
+		return columnNames.stream()
+		                  .map(columnName -> tableColumnTypes.getOrDefault(columnName, ColumnType.TEXT))
+		                  .toList();
+	}
+
+	private Map<String, Map<String, ColumnType>> columnTypes() {
+		if (columnTypes == null) {
+			synchronized (this) {
+				if (columnTypes == null) {
+					final Map<String, Map<String, ColumnType>> loadedColumnTypes = new HashMap<>();
+					db.fetch("""
+							SELECT table_name, column_name, udt_name FROM information_schema.columns WHERE
+							table_schema = current_schema()
+							""")
+					  .forEach(column -> loadedColumnTypes
+							  .computeIfAbsent(column.get(0, String.class), tableName -> new HashMap<>())
+							  .put(column.get(1, String.class), ColumnType.of(column.get(2, String.class))));
+					columnTypes = loadedColumnTypes;
+				}
+			}
+		}
+		return columnTypes;
+	}
+}
@@ -0,0 +1,197 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+
+import com.petromirdzhunev.cucumber.exception.DatabaseIsolationException;
+import com.petromirdzhunev.cucumber.spring.datasource.HikariDataSources;
+import com.petromirdzhunev.cucumber.spring.datasource.SwitchableDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component provisioning a dedicated schema for the current worker (e.g., a Surefire fork), cloned from the
+ * migrated {@code public} schema, and routing all the application connections to it through the {@code search_path}.
+ * As the {@link DSLContext} shares the application {@link DataSource}, the database steps and the
+ * {@link PostgreSQLDatabaseTruncator} operate on the worker schema too, so several workers can share one database.
+ * <p>
+ * The clone covers the tables with their data, indexes, constraints, foreign keys and sequences. Views, functions and
+ * triggers are still resolved from {@code public}, which stays on the {@code search_path} after the worker schema.
+ * <p>
+ * The worker is identified by {@code andromeda.database.worker-id}, otherwise by the {@code surefire.forkNumber} system
+ * property, which Surefire sets only when it's passed to the forks, e.g.
+ * {@code <argLine>-Dsurefire.forkNumber=${surefire.forkNumber}</argLine>}. Without either, the worker is identified by
+ * the process id, and the schema is dropped when the context is closed, as no later run uses it again.
+ * <p>
+ * Enabled by {@code andromeda.database.isolation=schema}.
+ */
+@Slf4j
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "andromeda.database.isolation", havingValue = "schema")
+public class PostgreSQLSchemaProvisioner {
+
+	private static final String SOURCE_SCHEMA = "public";
+	private static final String FORK_NUMBER_PROPERTY = "surefire.forkNumber";
+
+	private final DSLContext db;
+	private final SwitchableDataSource dataSource;
+	private final String workerSchema;
+	private final boolean ephemeralWorkerSchema;
+
+	public PostgreSQLSchemaProvisioner(final DSLContext db, final DataSource dataSource,
+			@Value("${andromeda.database.worker-id:}") final String configuredWorkerId) {
+		this.db = db;
+		try {
+			this.dataSource = dataSource.unwrap(SwitchableDataSource.class);
+		} catch (SQLException e) {
+			throw new DatabaseIsolationException("Schema isolation requires a switchable data source", e);
+		}
+		final String forkNumber = System.getProperty(FORK_NUMBER_PROPERTY, "");
+		final String workerId;
+		if (!configuredWorkerId.isBlank()) {
+			workerId = configuredWorkerId;
+		} else if (!forkNumber.isBlank()) {
+			workerId = forkNumber;
+		} else {
+			workerId = "pid_" + ProcessHandle.current().pid();
+		}
+		this.ephemeralWorkerSchema = configuredWorkerId.isBlank() && forkNumber.isBlank();
+		this.workerSchema = "worker_" + workerId.replaceAll("[^a-zA-Z0-9_]", "_");
+	}
+
+	@PostConstruct
+	public void provision() {
+		final long startTime = System.nanoTime();
+
+		// Read the definitions before the transaction, so they are rendered relative to the default search_path
+		final List<String> tableNames = db.fetch("""
+				SELECT table_name FROM information_schema.tables WHERE
+				table_schema = '%s' AND
+				table_type = 'BASE TABLE'
+				""".formatted(SOURCE_SCHEMA))
+		                                  .getValues(0, String.class);
+		final List<String> sequenceNames = db.fetch("""
+				SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE
+				n.nspname = '%s' AND
+				c.relkind = 'S' AND
+				NOT EXISTS (SELECT 1 FROM pg_depend d WHERE d.objid = c.oid AND d.deptype = 'i')
+				""".formatted(SOURCE_SCHEMA))
+		                                     .getValues(0, String.class);
+		final Result<Record> sequenceColumns = db.fetch("""
+				SELECT table_name, column_name, is_identity,
+				pg_get_serial_sequence(format('%%I.%%I', table_schema, table_name), column_name),
+				substring(column_default FROM 'nextval\\(''(.+)''::regclass\\)')
+				FROM information_schema.columns WHERE
+				table_schema = '%s' AND
+				(column_default LIKE 'nextval(%%' OR is_identity = 'YES')
+				""".formatted(SOURCE_SCHEMA));
+		final Result<Record> insertableColumns = db.fetch("""
+				SELECT table_name, string_agg(format('%%I', column_name), ',' ORDER BY ordinal_position)
+				FROM information_schema.columns WHERE
+				table_schema = '%1$s' AND
+				is_generated = 'NEVER' AND
+				table_name IN (SELECT table_name FROM information_schema.tables WHERE
+				table_schema = '%1$s' AND
+				table_type = 'BASE TABLE')
+				GROUP BY table_name
+				""".formatted(SOURCE_SCHEMA));
+		final Result<Record> foreignKeys = db.fetch("""
+				SELECT cl.relname, con.conname, pg_get_constraintdef(con.oid)
+				FROM pg_constraint con JOIN pg_class cl ON cl.oid = con.conrelid
+				JOIN pg_namespace n ON n.oid = cl.relnamespace WHERE
+				n.nspname = '%s' AND
+				con.contype = 'f'
+				""".formatted(SOURCE_SCHEMA));
+
+		db.transaction(configuration -> {
+			final DSLContext tx = configuration.dsl();
+			tx.execute("DROP SCHEMA IF EXISTS \"%s\" CASCADE".formatted(workerSchema));
+			tx.execute("CREATE SCHEMA \"%s\"".formatted(workerSchema));
+			// Unqualified names in the copied definitions must resolve to the worker schema
+			tx.execute("SET LOCAL search_path TO \"%s\"".formatted(workerSchema));
+
+			sequenceNames.forEach(sequenceName -> tx.execute("""
+					CREATE SEQUENCE "%1$s"."%3$s";
+					SELECT setval('"%1$s"."%3$s"', last_value, is_called) FROM "%2$s"."%3$s"
+					""".formatted(workerSchema, SOURCE_SCHEMA, sequenceName)));
+			tableNames.forEach(tableName -> tx.execute("CREATE TABLE \"%1$s\".\"%3$s\" (LIKE \"%2$s\".\"%3$s\" INCLUDING ALL)"
+					.formatted(workerSchema, SOURCE_SCHEMA, tableName)));
+			// LIKE keeps the serial defaults pointing to the source schema sequences
+			sequenceColumns.forEach(column -> {
+				final String tableName = column.get(0, String.class);
+				final String columnName = column.get(1, String.class);
+				final String ownedSequenceName = column.get(3, String.class);
+				final String defaultSequenceName = column.get(4, String.class);
+				if (defaultSequenceName != null) {
+					final String sequenceName = unqualified(defaultSequenceName);
+					tx.execute("ALTER TABLE \"%s\".\"%s\" ALTER COLUMN \"%s\" SET DEFAULT nextval('\"%s\".%s')"
+							.formatted(workerSchema, tableName, columnName, workerSchema, sequenceName));
+					if (ownedSequenceName != null) {
+						tx.execute("ALTER SEQUENCE \"%s\".%s OWNED BY \"%s\".\"%s\".\"%s\""
+								.formatted(workerSchema, sequenceName, workerSchema, tableName, columnName));
+					}
+				}
+			});
+			insertableColumns.forEach(columns -> tx.execute("""
+					INSERT INTO "%1$s"."%3$s" (%4$s) OVERRIDING SYSTEM VALUE SELECT %4$s FROM "%2$s"."%3$s"
+					""".formatted(workerSchema, SOURCE_SCHEMA, columns.get(0, String.class), columns.get(1, String.class))));
+			// The identity sequences created by LIKE start from scratch, but the copied rows already used some values
+			sequenceColumns.stream()
+			               .filter(column -> "YES".equals(column.get(2, String.class)))
+			               .forEach(column -> tx.execute("""
+					               SELECT setval(pg_get_serial_sequence('"%s"."%s"', '%s'), last_value, is_called) FROM %s
+					               """.formatted(workerSchema, column.get(0, String.class), column.get(1, String.class),
+					               column.get(3, String.class))));
+			foreignKeys.forEach(foreignKey -> tx.execute("ALTER TABLE \"%s\".\"%s\" ADD CONSTRAINT \"%s\" %s"
+					.formatted(workerSchema, foreignKey.get(0, String.class), foreignKey.get(1, String.class),
+							foreignKey.get(2, String.class).replace("REFERENCES %s.".formatted(SOURCE_SCHEMA),
+									"REFERENCES "))));
+		});
+
+		routeConnectionsToWorkerSchema();
+		log.info("Database worker schema provisioned [schema={}, tables={}, durationMs={}]", workerSchema,
+				tableNames.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+	}
+
+	@PreDestroy
+	public void dropEphemeralWorkerSchema() {
+		if (ephemeralWorkerSchema) {
+			db.execute("DROP SCHEMA IF EXISTS \"%s\" CASCADE".formatted(workerSchema));
+			log.info("Database worker schema dropped [schema={}]", workerSchema);
+		}
+	}
+
+	public String workerSchema() {
+		return workerSchema;
+	}
+
+	private static String unqualified(final String sequenceName) {
+		return sequenceName.replaceFirst("^\"?%s\"?\\.".formatted(SOURCE_SCHEMA), "");
+	}
+
+	private void routeConnectionsToWorkerSchema() {
+		if (!(dataSource.getTargetDataSource() instanceof HikariDataSource originalDataSource)) {
+			throw new DatabaseIsolationException("Schema isolation requires a Hikari data source");
+		}
+		final String searchPathSql = "SET search_path TO \"%s\", %s".formatted(workerSchema, SOURCE_SCHEMA);
+		final HikariDataSource workerDataSource = HikariDataSources.copyOf(originalDataSource, workerSchema,
+				workerConfig -> workerConfig.setConnectionInitSql(originalDataSource.getConnectionInitSql() == null
+						? searchPathSql
+						: originalDataSource.getConnectionInitSql() + ";" + searchPathSql));
+		dataSource.switchTo(workerDataSource);
+		originalDataSource.close();
+	}
+}
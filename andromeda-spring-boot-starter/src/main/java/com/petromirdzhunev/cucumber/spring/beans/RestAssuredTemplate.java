@@ -0,0 +1,97 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RedirectConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * A Spring component holding the immutable parts of the Rest Assured requests (the object mapper, the configuration
+ * and the base request), so they are built once per run instead of once per scenario.
+ * <p>
+ * The requests share a single HTTP client with a pooled connection manager, so the scenarios running in parallel send
+ * their requests concurrently, each on its own connection, up to {@code andromeda.http-client.max-connections}. It's
+ * created by the first scenario sending a request, so the suites without HTTP client steps don't initialize Rest
+ * Assured.
+ */
+@Lazy
+@ConditionalOnProperty(name = "andromeda.http-client.provider", havingValue = "rest-assured", matchIfMissing = true)
+public class RestAssuredTemplate {
+
+	private static final String LOCALHOST = "http://localhost";
+
+	private final Map<String, ContentType> contentTypes = new ConcurrentHashMap<>();
+	private final RestAssuredConfig config;
+	private final RequestSpecification baseRequestSpecification;
+	@SuppressWarnings("deprecation")
+	private final PoolingClientConnectionManager connectionManager;
+
+	@SuppressWarnings("deprecation")
+	public RestAssuredTemplate(@Value("${server.port}") final Integer serverPort,
+			@Value("${andromeda.http-client.max-connections:64}") final int maxConnections) {
+		// The default reused client has a single connection manager, which can't be used by several threads
+		this.connectionManager = new PoolingClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		// All the requests go to the application under test
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		// FIXME: Replace with JsonConverter once the library is released.
+		final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+		this.config = RestAssured.config()
+				.redirect(RedirectConfig.redirectConfig().followRedirects(true))
+				.objectMapperConfig(
+						ObjectMapperConfig.objectMapperConfig()
+						                  .jackson2ObjectMapperFactory((type, s) -> objectMapper))
+				.logConfig(LogConfig.logConfig()
+				                    .enablePrettyPrinting(true)
+				                    .urlEncodeRequestUri(true))
+				.httpClient(HttpClientConfig.httpClientConfig()
+				                                    .reuseHttpClientInstance()
+				                                    .httpClientFactory(() -> new DefaultHttpClient(connectionManager)));
+		this.baseRequestSpecification = new RequestSpecBuilder().setBaseUri(LOCALHOST)
+		                                                        .setPort(serverPort)
+		                                                        .setUrlEncodingEnabled(true)
+		                                                        .setConfig(config)
+		                                                        .setContentType(ContentType.JSON)
+		                                                        .build();
+	}
+
+	@PreDestroy
+	public void close() {
+		connectionManager.shutdown();
+	}
+
+	public RestAssuredConfig config() {
+		return config;
+	}
+
+	/**
+	 * @return a new request with the base configuration
+	 */
+	public RequestSpecification newRequest(final String urlPath) {
+		return RestAssured.given().spec(baseRequestSpecification).basePath(urlPath);
+	}
+
+	/**
+	 * @return the parsed content type, or {@code null} when it isn't one of the {@link ContentType}s
+	 */
+	public ContentType contentType(final String contentType) {
+		return contentTypes.computeIfAbsent(contentType, ContentType::fromContentType);
+	}
+}
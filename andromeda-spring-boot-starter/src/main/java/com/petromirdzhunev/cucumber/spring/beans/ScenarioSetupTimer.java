@@ -0,0 +1,83 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component measuring the time spent constructing the scenario scoped beans (the providers and the step
+ * definitions), which is the setup overhead paid by every scenario. Only the outermost bean is timed, so the beans
+ * created as its dependencies aren't counted twice. The time is accumulated per thread, so it stays correct when the
+ * scenarios run in parallel (see {@code cucumber.execution.parallel.enabled}).
+ */
+@Slf4j
+public class ScenarioSetupTimer implements InstantiationAwareBeanPostProcessor, BeanFactoryAware {
+
+	private static final String SCENARIO_SCOPE = "cucumber-glue";
+
+	private final ThreadLocal<Long> outermostBeanStartTime = new ThreadLocal<>();
+	private final ThreadLocal<String> outermostBeanName = new ThreadLocal<>();
+	private final ThreadLocal<long[]> scenarioSetupNanos = ThreadLocal.withInitial(() -> new long[1]);
+	private final LongAdder totalSetupNanos = new LongAdder();
+	private final LongAdder scenarios = new LongAdder();
+	private ConfigurableListableBeanFactory beanFactory;
+
+	@Override
+	public void setBeanFactory(final BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(final Class<?> beanClass, final String beanName) {
+		if (outermostBeanName.get() == null && isScenarioScoped(beanName)) {
+			outermostBeanName.set(beanName);
+			outermostBeanStartTime.set(System.nanoTime());
+		}
+		return null;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		if (beanName.equals(outermostBeanName.get())) {
+			scenarioSetupNanos.get()[0] += System.nanoTime() - outermostBeanStartTime.get();
+			outermostBeanName.remove();
+			outermostBeanStartTime.remove();
+		}
+		return bean;
+	}
+
+	/**
+	 * Reports the setup time of the scenario that just finished on the current thread and starts a new measurement.
+	 */
+	public void scenarioFinished(final String scenarioName) {
+		final long setupNanos = scenarioSetupNanos.get()[0];
+		scenarioSetupNanos.get()[0] = 0;
+		totalSetupNanos.add(setupNanos);
+		scenarios.increment();
+		log.debug("Scenario setup finished [scenario={}, setupMicros={}]", scenarioName,
+				TimeUnit.NANOSECONDS.toMicros(setupNanos));
+	}
+
+	@PreDestroy
+	public void reportTotals() {
+		final long scenariosCount = scenarios.sum();
+		if (scenariosCount > 0) {
+			final long setupNanos = totalSetupNanos.sum();
+			log.info("Scenario setup overhead [scenarios={}, totalMs={}, averageMicros={}]", scenariosCount,
+					TimeUnit.NANOSECONDS.toMillis(setupNanos), TimeUnit.NANOSECONDS.toMicros(setupNanos / scenariosCount));
+		}
+	}
+
+	private boolean isScenarioScoped(final String beanName) {
+		return beanFactory.containsBeanDefinition(beanName)
+				&& SCENARIO_SCOPE.equals(beanFactory.getBeanDefinition(beanName).getScope());
+	}
+}
@@ -0,0 +1,129 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.petromirdzhunev.cucumber.database.SqlStatement;
+import com.petromirdzhunev.cucumber.parallel.ExclusiveResources;
+import com.petromirdzhunev.cucumber.spring.datasource.StatementRecordingDataSource;
+
+/**
+ * A Spring component collecting the SQL statements executed by the application under test through the
+ * {@link StatementRecordingDataSource}. The statements of the threads running the scenarios are ignored, as they are
+ * executed by the database steps and hooks themselves, rather than by the application while handling the requests.
+ * <p>
+ * Every scenario sees the statements recorded since it started on its thread, so the scenarios running in parallel
+ * don't clear each other's statements. The statements are still collected per Spring context, so the statements of the
+ * scenarios running at the same time are seen by all of them, unless they hold the
+ * {@link ExclusiveResources#DATABASE} resource. The statements older than the
+ * oldest running scenario are dropped when a scenario finishes.
+ */
+public class SqlStatementRecorder {
+
+	private static final int MAX_REPORTED_STATEMENTS = 10;
+
+	private final ConcurrentNavigableMap<Long, SqlStatement> statements = new ConcurrentSkipListMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final ThreadLocal<Boolean> ignoredThread = ThreadLocal.withInitial(() -> Boolean.FALSE);
+	// The sequence the scenario running on the thread started at
+	private final Map<Thread, Long> scenarioStarts = new ConcurrentHashMap<>();
+
+	/**
+	 * Ignores the statements executed on the current thread from now on.
+	 */
+	public void ignoreCurrentThread() {
+		ignoredThread.set(Boolean.TRUE);
+	}
+
+	public boolean isRecording() {
+		return !ignoredThread.get();
+	}
+
+	public void record(final SqlStatement statement) {
+		statements.put(sequence.getAndIncrement(), statement);
+	}
+
+	/**
+	 * Starts the scenario running on the current thread, which sees the statements recorded from now on.
+	 */
+	public void startScenario() {
+		scenarioStarts.put(Thread.currentThread(), sequence.get());
+	}
+
+	/**
+	 * Finishes the scenario running on the current thread, and drops the statements no running scenario sees.
+	 */
+	public void finishScenario() {
+		scenarioStarts.remove(Thread.currentThread());
+		final long oldestStart = scenarioStarts.values().stream()
+		                                       .mapToLong(Long::longValue)
+		                                       .min()
+		                                       .orElse(sequence.get());
+		statements.headMap(oldestStart).clear();
+	}
+
+	/**
+	 * @return the statements recorded since the scenario running on the current thread started
+	 */
+	public List<SqlStatement> statements() {
+		return List.copyOf(scenarioStatements());
+	}
+
+	/**
+	 * @return the first statement of every normalized SQL referencing the given table
+	 */
+	public List<SqlStatement> distinctStatementsOnTable(final String tableName) {
+		return scenarioStatements().stream()
+		                 .filter(statement -> statement.referencesTable(tableName))
+		                 .collect(Collectors.toMap(SqlStatement::normalizedSql, statement -> statement,
+				                 (first, second) -> first, LinkedHashMap::new))
+		                 .values().stream()
+		                 .toList();
+	}
+
+	/**
+	 * @return the execution count per normalized SQL, from the most executed one
+	 */
+	public Map<String, Long> executionCounts() {
+		return scenarioStatements().stream()
+		                 .collect(Collectors.groupingBy(SqlStatement::normalizedSql, Collectors.counting()))
+		                 .entrySet().stream()
+		                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+		                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+				                 LinkedHashMap::new));
+	}
+
+	/**
+	 * @return the most executed statements with their count, total duration and rows
+	 */
+	public String summary() {
+		final List<SqlStatement> recordedStatements = statements();
+		final Map<String, List<SqlStatement>> statementsBySql = recordedStatements.stream().collect(
+				Collectors.groupingBy(SqlStatement::normalizedSql, LinkedHashMap::new, Collectors.toList()));
+		final List<Map.Entry<String, List<SqlStatement>>> mostExecuted = new ArrayList<>(statementsBySql.entrySet());
+		mostExecuted.sort(Comparator.comparing(entry -> -entry.getValue().size()));
+
+		final StringBuilder summary = new StringBuilder("Application SQL statements [statements=%d, distinct=%d]"
+				.formatted(recordedStatements.size(), statementsBySql.size()));
+		mostExecuted.stream().limit(MAX_REPORTED_STATEMENTS).forEach(entry -> summary.append(System.lineSeparator())
+				.append("%s [count=%d, totalMs=%d, rows=%d]".formatted(entry.getKey(), entry.getValue().size(),
+						TimeUnit.NANOSECONDS.toMillis(entry.getValue().stream()
+						     .mapToLong(statement -> statement.duration().toNanos()).sum()),
+						entry.getValue().stream().mapToLong(statement -> statement.rows().get()).sum())));
+		return summary.toString();
+	}
+
+	private Collection<SqlStatement> scenarioStatements() {
+		return statements.tailMap(scenarioStarts.getOrDefault(Thread.currentThread(), 0L)).values();
+	}
+}
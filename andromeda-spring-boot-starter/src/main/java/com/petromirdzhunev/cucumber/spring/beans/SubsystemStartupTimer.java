@@ -0,0 +1,125 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.ClassUtils;
+
+import com.petromirdzhunev.andromeda.autoconfigure.AndromedaAutoConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Spring component measuring the time spent creating the beans of every subsystem (e.g., the mock HTTP server or the
+ * database) while the test context starts. The subsystems are the Andromeda auto-configurations, and their beans are
+ * the classes they import. Only the outermost bean is timed, so the beans created as its dependencies (including the
+ * ones of the application, e.g., the data source) are counted once, within the subsystem needing them.
+ */
+@Slf4j
+public class SubsystemStartupTimer implements InstantiationAwareBeanPostProcessor, BeanFactoryAware,
+		SmartInitializingSingleton {
+
+	private static final String AUTO_CONFIGURATION_PACKAGE = AndromedaAutoConfiguration.class.getPackageName() + ".";
+	private static final String AUTO_CONFIGURATION_SUFFIX = "AutoConfiguration";
+	private static final String SUBSYSTEM_PREFIX = "Andromeda";
+	private static final String CORE_SUBSYSTEM = "core";
+
+	private final Map<String, long[]> subsystemTimings = new TreeMap<>();
+	private Map<Class<?>, String> subsystems;
+	private ConfigurableListableBeanFactory beanFactory;
+	private String outermostBeanName;
+	private String outermostBeanSubsystem;
+	private long outermostBeanStartTime;
+	private boolean started;
+
+	@Override
+	public void setBeanFactory(final BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(final Class<?> beanClass, final String beanName) {
+		if (!started && outermostBeanName == null && subsystems().containsKey(beanClass)) {
+			outermostBeanName = beanName;
+			outermostBeanSubsystem = subsystems().get(beanClass);
+			outermostBeanStartTime = System.nanoTime();
+		}
+		return null;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		if (beanName.equals(outermostBeanName)) {
+			final long[] timing = subsystemTimings.computeIfAbsent(outermostBeanSubsystem, name -> new long[2]);
+			timing[0]++;
+			timing[1] += System.nanoTime() - outermostBeanStartTime;
+			outermostBeanName = null;
+		}
+		return bean;
+	}
+
+	/**
+	 * Reports the startup time of every subsystem, once all the non-lazy beans are created. The lazy beans and the
+	 * scenario scoped ones are created by the scenarios, and aren't reported.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		started = true;
+		subsystemTimings.forEach((subsystem, timing) -> log.info(
+				"Andromeda subsystem started [subsystem={}, beans={}, durationMs={}]", subsystem, timing[0],
+				TimeUnit.NANOSECONDS.toMillis(timing[1])));
+	}
+
+	/**
+	 * Indexes the classes imported by the registered auto-configurations, so only the subsystems whose conditions
+	 * matched are loaded.
+	 */
+	private Map<Class<?>, String> subsystems() {
+		if (subsystems == null) {
+			subsystems = new HashMap<>();
+			for (String beanName : beanFactory.getBeanDefinitionNames()) {
+				final String beanClassName = beanFactory.getBeanDefinition(beanName).getBeanClassName();
+				if (beanClassName != null && beanClassName.startsWith(AUTO_CONFIGURATION_PACKAGE)) {
+					final Class<?> configurationClass = ClassUtils.resolveClassName(beanClassName,
+							beanFactory.getBeanClassLoader());
+					indexImports(configurationClass, subsystemName(configurationClass));
+				}
+			}
+		}
+		return subsystems;
+	}
+
+	private void indexImports(final Class<?> configurationClass, final String subsystem) {
+		final Import imports = configurationClass.getAnnotation(Import.class);
+		if (imports != null) {
+			for (Class<?> importedClass : imports.value()) {
+				subsystems.put(importedClass, subsystem);
+			}
+		}
+	}
+
+	/**
+	 * @return the kebab case subsystem name, e.g. {@code mock-http-server} for the
+	 * {@code AndromedaMockHttpServerAutoConfiguration} and its nested configurations
+	 */
+	private static String subsystemName(final Class<?> configurationClass) {
+		final Class<?> topLevelClass = configurationClass.getEnclosingClass() == null
+				? configurationClass
+				: configurationClass.getEnclosingClass();
+		final String simpleName = topLevelClass.getSimpleName();
+		final String subsystemName = simpleName.substring(SUBSYSTEM_PREFIX.length(),
+				simpleName.length() - AUTO_CONFIGURATION_SUFFIX.length());
+		return subsystemName.isEmpty()
+				? CORE_SUBSYSTEM
+				: subsystemName.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
+	}
+}
@@ -0,0 +1,195 @@
+package com.petromirdzhunev.cucumber.spring.context;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.http.JsonMatching;
+import com.petromirdzhunev.cucumber.http.ReceivedCall;
+import com.petromirdzhunev.cucumber.http.ReceivedRequest;
+import com.petromirdzhunev.cucumber.http.ResponseFaults;
+import com.petromirdzhunev.cucumber.http.StubExpectation;
+import com.petromirdzhunev.cucumber.http.StubResponse;
+import com.petromirdzhunev.cucumber.spring.beans.EmbeddedMockHttpServer;
+
+import io.cucumber.spring.ScenarioScope;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Context used to store HTTP server-related data within the scenario scope.
+ * Implementation of HttpServerContext for mocking HTTP services on the {@link EmbeddedMockHttpServer}. It follows the
+ * semantics of the {@link MockServerProvider}: the headers, the query string parameters and the form url-encoded
+ * parameters must be present, the body must be equal, and the non-strict body must be contained in the request body.
+ * <p>
+ * Enabled by {@code andromeda.mock.http-server.provider=embedded}.
+ */
+@ScenarioScope
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "andromeda.mock.http-server.provider", havingValue = "embedded")
+public class EmbeddedMockHttpServerProvider implements MockHttpServerProvider {
+
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+	private static final String URL_ENCODED_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+	private final Map<String, String> urlEncodedParameters = new LinkedHashMap<>();
+	private final EmbeddedMockHttpServer httpServer;
+	// FIXME: Replace with JsonConverter once the library is released.
+	private final ObjectMapper objectMapper;
+	private String method;
+	private String path;
+	private String contentType;
+	private Predicate<ReceivedRequest> matcher;
+	private ResponseFaults faults;
+	private Instant lastClientRequestTime;
+
+	@Override
+	public void createRequestWithUrlPath(final String httpMethod, final String urlPath) {
+		createRequestWithUrlPathAndContentType(httpMethod, urlPath, JSON_CONTENT_TYPE);
+	}
+
+	@Override
+	public void createRequestWithUrlPathAndContentType(final String httpMethod, final String urlPath,
+			final String contentType) {
+		// The first mock server step of the run starts the server
+		httpServer.start();
+		method = httpMethod;
+		path = urlPath;
+		this.contentType = contentType;
+		urlEncodedParameters.clear();
+		matcher = request -> true;
+		faults = ResponseFaults.NONE;
+	}
+
+	@Override
+	public void setHeaderPair(final String key, final String value) {
+		matcher = matcher.and(request -> request.headers().getOrDefault(key, List.of()).contains(value));
+	}
+
+	@Override
+	public void setQueryParameter(final String key, final String value) {
+		matcher = matcher.and(request -> request.queryParameters().getOrDefault(key, List.of()).contains(value));
+	}
+
+	@Override
+	public void setUrlEncodedParameter(final String key, final String value) {
+		urlEncodedParameters.put(key, value);
+	}
+
+	@Override
+	public void setBody(final String body) {
+		matcher = matcher.and(request -> request.bodyAsString().equals(body));
+	}
+
+	@Override
+	public void setNonStrictBody(final String body) {
+		final JsonNode expectedBody = readJson(body);
+		matcher = matcher.and(request -> {
+			try {
+				return JsonMatching.contains(objectMapper.readTree(request.body()), expectedBody);
+			} catch (IOException e) {
+				return false;
+			}
+		});
+	}
+
+	@Override
+	public void setUrlEncodedBody() {
+		final Map<String, String> expectedParameters = Map.copyOf(urlEncodedParameters);
+		contentType = URL_ENCODED_CONTENT_TYPE;
+		matcher = matcher.and(request -> {
+			final Map<String, List<String>> formParameters = request.formParameters();
+			return expectedParameters.entrySet().stream()
+			                         .allMatch(parameter -> formParameters.getOrDefault(parameter.getKey(), List.of())
+			                                                              .contains(parameter.getValue()));
+		});
+	}
+
+	@Override
+	public void setResponse(final JsonNode body) {
+		setResponse(200, body);
+	}
+
+	@Override
+	public void setResponse(final Integer statusCode, final JsonNode body) {
+		httpServer.register(new StubExpectation(method, path, hasContentType(contentType).and(matcher),
+				new StubResponse(statusCode, JSON_CONTENT_TYPE, body.toPrettyString().getBytes(StandardCharsets.UTF_8),
+						faults)));
+	}
+
+	@Override
+	public void setResponseDelay(final Duration delay, final Duration jitter) {
+		faults = faults.withDelay(delay, jitter);
+	}
+
+	@Override
+	public void setResponseChunks(final int chunkSize, final Duration chunkDelay) {
+		faults = faults.withChunks(chunkSize, chunkDelay);
+	}
+
+	@Override
+	public void setFailEveryNthCall(final int nthCall, final Integer statusCode) {
+		faults = faults.withFailEveryNthCall(nthCall, statusCode);
+	}
+
+	@Override
+	public void setConnectionReset() {
+		httpServer.register(new StubExpectation(method, path, hasContentType(contentType).and(matcher),
+				new StubResponse(0, null, new byte[0], faults.withDroppedConnection())));
+	}
+
+	@Override
+	public void beforeClientRequest() {
+		lastClientRequestTime = Instant.now();
+	}
+
+	@Override
+	public int receivedRequestsCount(final String urlPath) {
+		return httpServer.receivedRequestsCount(urlPath);
+	}
+
+	@Override
+	public List<ReceivedCall> receivedCalls() {
+		return httpServer.receivedCalls();
+	}
+
+	@Override
+	public Optional<Instant> lastClientRequestTime() {
+		return Optional.ofNullable(lastClientRequestTime);
+	}
+
+	/**
+	 * Matches the media type only, without its parameters (e.g., the charset), as the clients add them inconsistently.
+	 */
+	private static Predicate<ReceivedRequest> hasContentType(final String contentType) {
+		final String mediaType = mediaType(contentType);
+		return request -> {
+			final String requestContentType = request.header("Content-Type");
+			// Requests without a body usually have no content type
+			return requestContentType == null || mediaType(requestContentType).equalsIgnoreCase(mediaType);
+		};
+	}
+
+	private static String mediaType(final String contentType) {
+		final int parametersIndex = contentType.indexOf(';');
+		return (parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex)).trim();
+	}
+
+	private JsonNode readJson(final String json) {
+		try {
+			return objectMapper.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Invalid JSON body [body=%s]".formatted(json), e);
+		}
+	}
+}
@@ -1,6 +1,10 @@
 package com.petromirdzhunev.cucumber.spring.context;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import com.fasterxml.jackson.databind.JsonNode;
+import com.petromirdzhunev.cucumber.http.HttpRequestReplayer;
 
 /**
  * Interface for HTTP client operations.
@@ -28,10 +32,38 @@ public interface HttpClientProvider {
 	// Actions
 	void sendRequest();
 
+	/**
+	 * The implementations not supporting the load steps keep the default, which rejects them.
+	 *
+	 * @return a replayer of the prepared request, able to keep the given number of requests in flight
+	 */
+	default HttpRequestReplayer requestReplayer(final int concurrency) {
+		throw new UnsupportedOperationException("HTTP client doesn't support replaying requests under load [client=%s]"
+				.formatted(getClass().getName()));
+	}
+
 	// Response access for assertions
 	Integer responseStatusCode();
 
 	String responseHeader(final String key);
 
 	String responseBodyAsString();
+
+	/**
+	 * The implementations not measuring the response time keep the default, which rejects the response time steps.
+	 *
+	 * @return the time from sending the request until the response is received
+	 */
+	default Duration responseTime() {
+		throw new IllegalStateException("HTTP client doesn't measure the response time [client=%s]"
+				.formatted(getClass().getName()));
+	}
+
+	/**
+	 * @return the time from sending the request until the first byte of the response is received, when the
+	 * implementation can measure it
+	 */
+	default Optional<Duration> responseTimeToFirstByte() {
+		return Optional.empty();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.petromirdzhunev.cucumber.spring.context;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import com.petromirdzhunev.cucumber.http.HttpExchange;
+
+import io.cucumber.spring.ScenarioScope;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Context used to keep the HTTP client exchanges within the scenario scope. With
+ * {@code andromeda.http-client.logging=on-failure} the exchanges aren't logged when they happen, but are kept in a
+ * bounded ring buffer (the oldest ones are dropped) and are written out only if the scenario fails. The bodies are
+ * truncated, so large payloads neither bloat the buffer nor flood the logs.
+ */
+@Slf4j
+@ScenarioScope
+public class HttpExchangeLog {
+
+	private final Deque<HttpExchange> exchanges = new ArrayDeque<>();
+	private final boolean logOnFailure;
+	private final int maxExchanges;
+	private final int maxBodyLength;
+	private long droppedExchanges;
+
+	public HttpExchangeLog(@Value("${andromeda.http-client.logging:always}") final String logging,
+			@Value("${andromeda.http-client.logging.max-exchanges:20}") final int maxExchanges,
+			@Value("${andromeda.http-client.logging.max-body-length:8192}") final int maxBodyLength) {
+		this.logOnFailure = "on-failure".equals(logging);
+		this.maxExchanges = maxExchanges;
+		this.maxBodyLength = maxBodyLength;
+	}
+
+	/**
+	 * @return whether the exchanges are kept until the end of the scenario instead of being logged right away
+	 */
+	public boolean isLogOnFailure() {
+		return logOnFailure;
+	}
+
+	public synchronized void record(final HttpExchange exchange) {
+		final HttpExchange truncatedExchange = exchange.truncated(maxBodyLength);
+		if (!logOnFailure) {
+			log.info("HTTP exchange{}{}", System.lineSeparator(), truncatedExchange.formatted());
+			return;
+		}
+		if (exchanges.size() == maxExchanges) {
+			exchanges.pollFirst();
+			droppedExchanges++;
+		}
+		exchanges.addLast(truncatedExchange);
+	}
+
+	/**
+	 * Writes the kept exchanges to the console and attaches them to the Allure report.
+	 */
+	public synchronized void writeOut() {
+		if (exchanges.isEmpty()) {
+			return;
+		}
+		log.info("HTTP exchanges of the failed scenario [exchanges={}, droppedExchanges={}]", exchanges.size(),
+				droppedExchanges);
+		int exchangeNumber = 1;
+		for (HttpExchange exchange : exchanges) {
+			final String formattedExchange = exchange.formatted();
+			log.info("HTTP exchange{}{}", System.lineSeparator(), formattedExchange);
+			Allure.addAttachment("HTTP exchange %d".formatted(exchangeNumber++), "text/plain", formattedExchange,
+					".txt");
+		}
+		exchanges.clear();
+	}
+}
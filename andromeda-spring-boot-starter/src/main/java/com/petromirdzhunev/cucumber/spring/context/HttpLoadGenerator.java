@@ -0,0 +1,88 @@
+package com.petromirdzhunev.cucumber.spring.context;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.petromirdzhunev.cucumber.http.HttpLoadResult;
+import com.petromirdzhunev.cucumber.http.HttpRequestReplayer;
+import com.petromirdzhunev.cucumber.http.LatencyHistogram;
+
+import io.cucumber.spring.ScenarioScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Context used to replay the prepared HTTP client request under load within the scenario scope. Every concurrent
+ * user is a virtual thread sending the request in a closed loop (a new request is sent once the previous one is
+ * answered), until the requested number of requests is reached.
+ */
+@Slf4j
+@ScenarioScope
+@RequiredArgsConstructor
+public class HttpLoadGenerator {
+
+	private final HttpClientProvider httpClientProvider;
+	private HttpLoadResult lastLoadResult;
+
+	public HttpLoadResult run(final int requestsCount, final int concurrency, final int warmUpRequestsCount) {
+		if (requestsCount < 1 || concurrency < 1) {
+			throw new IllegalArgumentException("Invalid load [requests=%d, concurrency=%d]".formatted(requestsCount,
+					concurrency));
+		}
+		try (HttpRequestReplayer replayer = httpClientProvider.requestReplayer(concurrency)) {
+			// The warm-up lets the connections, the JIT and the caches of the application settle before measuring
+			replay(replayer, warmUpRequestsCount, concurrency, new LatencyHistogram(), new ConcurrentHashMap<>(),
+					new LongAdder());
+
+			final LatencyHistogram latencies = new LatencyHistogram();
+			final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+			final LongAdder failedRequests = new LongAdder();
+			final long startTime = System.nanoTime();
+			replay(replayer, requestsCount, concurrency, latencies, statusCodes, failedRequests);
+			final Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+
+			final Map<Integer, Long> statusCodesCount = new TreeMap<>();
+			statusCodes.forEach((statusCode, count) -> statusCodesCount.put(statusCode, count.sum()));
+			lastLoadResult = new HttpLoadResult(requestsCount, concurrency, duration, latencies, statusCodesCount,
+					failedRequests.sum());
+		}
+		log.info("HTTP load finished {}", lastLoadResult.summary());
+		return lastLoadResult;
+	}
+
+	public HttpLoadResult lastLoadResult() {
+		if (lastLoadResult == null) {
+			throw new IllegalStateException("No HTTP load has been generated in the scenario");
+		}
+		return lastLoadResult;
+	}
+
+	private static void replay(final HttpRequestReplayer replayer, final int requestsCount, final int concurrency,
+			final LatencyHistogram latencies, final Map<Integer, LongAdder> statusCodes,
+			final LongAdder failedRequests) {
+		final AtomicInteger remainingRequests = new AtomicInteger(requestsCount);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < Math.min(concurrency, requestsCount); i++) {
+				executor.execute(() -> {
+					while (remainingRequests.getAndDecrement() > 0) {
+						final long requestStartTime = System.nanoTime();
+						try {
+							final int statusCode = replayer.replay();
+							latencies.record(Duration.ofNanos(System.nanoTime() - requestStartTime));
+							statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+						} catch (RuntimeException e) {
+							failedRequests.increment();
+							log.debug("HTTP load request failed", e);
+						}
+					}
+				});
+			}
+		}
+	}
+}
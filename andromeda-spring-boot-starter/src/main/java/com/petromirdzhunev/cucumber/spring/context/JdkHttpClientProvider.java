@@ -0,0 +1,224 @@
+package com.petromirdzhunev.cucumber.spring.context;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petromirdzhunev.cucumber.exception.HttpClientException;
+import com.petromirdzhunev.cucumber.http.HttpExchange;
+import com.petromirdzhunev.cucumber.http.HttpRequestReplayer;
+import com.petromirdzhunev.cucumber.spring.beans.JdkHttpClientWrapper;
+
+import io.cucumber.spring.ScenarioScope;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDK {@link HttpClient} implementation of the HttpClientProvider interface. The request is kept as plain values and
+ * built once when it is sent, and the response body is buffered as bytes.
+ * <p>
+ * Enabled by {@code andromeda.http-client.provider=jdk}.
+ */
+@ScenarioScope
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "andromeda.http-client.provider", havingValue = "jdk")
+public class JdkHttpClientProvider implements HttpClientProvider {
+
+	private static final String LOCALHOST = "http://localhost";
+	private static final String CONTENT_TYPE_HEADER = "Content-Type";
+	private static final String JSON_CONTENT_TYPE = "application/json";
+	private static final String URL_ENCODED_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+	private final JdkHttpClientWrapper httpClient;
+	private final HttpExchangeLog httpExchangeLog;
+	private final List<Map.Entry<String, String>> queryParameters = new ArrayList<>();
+	private final List<Map.Entry<String, String>> encodedParameters = new ArrayList<>();
+	private final List<Map.Entry<String, String>> headers = new ArrayList<>();
+
+	@Value("${server.port}")
+	private Integer serverPort;
+	private String method;
+	private String urlPath;
+	private String contentType;
+	private byte[] body;
+	private HttpResponse<byte[]> lastHttpResponse;
+	private Duration lastResponseTime;
+	private Duration lastTimeToFirstByte;
+
+	@Override
+	public void init() {
+		// The shared client is configured by the JdkHttpClientWrapper
+	}
+
+	@Override
+	public void createRequestWithUrlPath(final String httpMethod, final String urlPath) {
+		createRequestWithUrlPathAndContentType(httpMethod, urlPath, JSON_CONTENT_TYPE);
+	}
+
+	@Override
+	public void createRequestWithUrlPathAndContentType(final String httpMethod, final String urlPath,
+			final String contentType) {
+		this.method = httpMethod;
+		this.urlPath = urlPath;
+		this.contentType = contentType;
+		this.body = null;
+		queryParameters.clear();
+		encodedParameters.clear();
+		headers.clear();
+	}
+
+	@Override
+	public void addRequestQueryParameter(final String key, final String value) {
+		queryParameters.add(Map.entry(key, value));
+	}
+
+	@Override
+	public void addRequestEncodedParameter(final String key, final String value) {
+		contentType = URL_ENCODED_CONTENT_TYPE;
+		encodedParameters.add(Map.entry(key, value));
+	}
+
+	@Override
+	public void addRequestHeaderPair(final String key, final String value) {
+		headers.add(Map.entry(key, value));
+	}
+
+	@Override
+	public void addRequestBody(final String body) {
+		this.body = body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void addRequestBody(final JsonNode body) {
+		this.body = body.toPrettyString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void sendRequest() {
+		final HttpRequest request = buildRequest();
+		final long startTime = System.nanoTime();
+		final long[] firstByteTime = new long[1];
+		lastHttpResponse = send(request, responseInfo -> {
+			// Called as soon as the status line and the headers are received
+			firstByteTime[0] = System.nanoTime();
+			return HttpResponse.BodySubscribers.ofByteArray();
+		});
+		final long endTime = System.nanoTime();
+		lastResponseTime = Duration.ofNanos(endTime - startTime);
+		lastTimeToFirstByte = Duration.ofNanos(firstByteTime[0] - startTime);
+		httpExchangeLog.record(new HttpExchange(method, request.uri().toString(), headerLines(request.headers()),
+				requestBody(), lastHttpResponse.statusCode(), headerLines(lastHttpResponse.headers()),
+				responseBodyAsString(), lastResponseTime));
+	}
+
+	@Override
+	public HttpRequestReplayer requestReplayer(final int concurrency) {
+		// The shared client is thread-safe and pools its connections
+		final HttpRequest request = buildRequest();
+		return new HttpRequestReplayer() {
+			@Override
+			public int replay() {
+				return send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			}
+
+			@Override
+			public void close() {
+				// The shared client outlives the replayer
+			}
+		};
+	}
+
+	@Override
+	public Integer responseStatusCode() {
+		return lastHttpResponse.statusCode();
+	}
+
+	@Override
+	public String responseHeader(final String key) {
+		return lastHttpResponse.headers().firstValue(key).orElse(null);
+	}
+
+	@Override
+	public String responseBodyAsString() {
+		return new String(lastHttpResponse.body(), StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public Duration responseTime() {
+		return lastResponseTime;
+	}
+
+	@Override
+	public Optional<Duration> responseTimeToFirstByte() {
+		return Optional.of(lastTimeToFirstByte);
+	}
+
+	private HttpRequest buildRequest() {
+		final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri());
+		headers.forEach(header -> requestBuilder.header(header.getKey(), header.getValue()));
+		if (contentType != null) {
+			requestBuilder.setHeader(CONTENT_TYPE_HEADER, contentType);
+		}
+		final byte[] requestBody = encodedParameters.isEmpty()
+				? body
+				: encoded(encodedParameters).getBytes(StandardCharsets.UTF_8);
+		return requestBuilder.method(method, requestBody == null
+				                     ? HttpRequest.BodyPublishers.noBody()
+				                     : HttpRequest.BodyPublishers.ofByteArray(requestBody))
+		                     .build();
+	}
+
+	private URI uri() {
+		final String path = urlPath.startsWith("/") ? urlPath : "/" + urlPath;
+		return URI.create(queryParameters.isEmpty()
+				? "%s:%d%s".formatted(LOCALHOST, serverPort, path)
+				: "%s:%d%s?%s".formatted(LOCALHOST, serverPort, path, encoded(queryParameters)));
+	}
+
+	private <T> HttpResponse<T> send(final HttpRequest request, final HttpResponse.BodyHandler<T> bodyHandler) {
+		try {
+			return httpClient.delegate().send(request, bodyHandler);
+		} catch (IOException e) {
+			throw new HttpClientException("Failed to send HTTP request [method=%s, uri=%s]".formatted(request.method(),
+					request.uri()), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpClientException("Interrupted while sending HTTP request [method=%s, uri=%s]".formatted(
+					request.method(), request.uri()), e);
+		}
+	}
+
+	private String requestBody() {
+		if (!encodedParameters.isEmpty()) {
+			return encoded(encodedParameters);
+		}
+		return body == null ? null : new String(body, StandardCharsets.UTF_8);
+	}
+
+	private static List<String> headerLines(final HttpHeaders headers) {
+		return headers.map().entrySet().stream()
+		              .flatMap(header -> header.getValue().stream().map(value -> header.getKey() + ": " + value))
+		              .toList();
+	}
+
+	private static String encoded(final List<Map.Entry<String, String>> parameters) {
+		return parameters.stream()
+		                 .map(parameter -> URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8) + "="
+				                 + URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8))
+		                 .collect(Collectors.joining("&"));
+	}
+}
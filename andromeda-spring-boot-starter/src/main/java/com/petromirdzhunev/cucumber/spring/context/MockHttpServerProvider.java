@@ -1,6 +1,12 @@
 package com.petromirdzhunev.cucumber.spring.context;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 import com.fasterxml.jackson.databind.JsonNode;
+import com.petromirdzhunev.cucumber.http.ReceivedCall;
 
 /**
  * Interface for HTTP server mock operations.
@@ -27,4 +33,66 @@ public interface MockHttpServerProvider {
 	void setResponse(final JsonNode body);
 
 	void setResponse(final Integer statusCode, final JsonNode body);
+
+	// Faults, applied to the response set afterwards. The implementations not supporting a fault keep the default,
+	// which rejects the fault step
+	default void setResponseDelay(final Duration delay, final Duration jitter) {
+		throw unsupportedFault("response delay");
+	}
+
+	default void setResponseChunks(final int chunkSize, final Duration chunkDelay) {
+		throw unsupportedFault("chunked response");
+	}
+
+	default void setFailEveryNthCall(final int nthCall, final Integer statusCode) {
+		throw unsupportedFault("failing calls");
+	}
+
+	/**
+	 * Sets a response closing the connection without responding, instead of a regular response.
+	 */
+	default void setConnectionReset() {
+		throw unsupportedFault("connection reset");
+	}
+
+	/**
+	 * Registers the expectations which are still pending on the mock server, when they are registered in batches. The
+	 * implementations registering every expectation right away keep the default, which does nothing.
+	 */
+	default void flushExpectations() {
+	}
+
+	/**
+	 * Called right before the HTTP client sends a request, which may trigger calls to the mock server. Registers the
+	 * pending expectations and marks the time the received calls are reported relative to. The implementations keeping
+	 * no such state keep the default, which does nothing.
+	 */
+	default void beforeClientRequest() {
+	}
+
+	// Received requests access for assertions, with the URL path starting with a slash
+	default int receivedRequestsCount(final String urlPath) {
+		throw new IllegalStateException("Mock HTTP server doesn't record the received requests [urlPath=%s, provider=%s]"
+				.formatted(urlPath, getClass().getName()));
+	}
+
+	/**
+	 * @return the calls received within the scenario, in the order they were received, or no calls when the
+	 * implementation doesn't record them
+	 */
+	default List<ReceivedCall> receivedCalls() {
+		return List.of();
+	}
+
+	/**
+	 * @return the time the HTTP client sent its last request within the scenario, if it's tracked
+	 */
+	default Optional<Instant> lastClientRequestTime() {
+		return Optional.empty();
+	}
+
+	private IllegalStateException unsupportedFault(final String fault) {
+		return new IllegalStateException("Mock HTTP server doesn't support the fault [fault=%s, provider=%s]"
+				.formatted(fault, getClass().getName()));
+	}
 }
@@ -1,32 +1,71 @@
 package com.petromirdzhunev.cucumber.spring.context;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.mockserver.mock.Expectation;
+import org.mockserver.model.ConnectionOptions;
+import org.mockserver.model.HttpError;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.JsonBody;
 import org.mockserver.model.MediaType;
-import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.petromirdzhunev.cucumber.http.ReceivedCall;
+import com.petromirdzhunev.cucumber.http.ResponseFaults;
 import com.petromirdzhunev.cucumber.spring.beans.MockHttpServerWrapper;
 
 import io.cucumber.spring.ScenarioScope;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Context used to store HTTP server-related data within the scenario scope.
  * Implementation of HttpServerContext for mocking HTTP services.
+ * <p>
+ * With {@code andromeda.mock.http-server.batch-expectations=true} the expectations aren't sent to the MockServer one by
+ * one, but are collected and sent in one bulk upsert when they are flushed, i.e., before the HTTP client sends its
+ * request.
+ * <p>
+ * The responses with a per call behaviour (a jittered delay or failing calls) are computed by a callback in this JVM,
+ * so they are always registered right away, after flushing the batched expectations. MockServer can neither delay the
+ * response chunks nor jitter the delay of a dropped connection, so those faults are rejected.
+ * <p>
+ * Enabled by default or by {@code andromeda.mock.http-server.provider=mockserver}.
  */
-@Component
+@Slf4j
 @ScenarioScope
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "andromeda.mock.http-server.provider", havingValue = "mockserver", matchIfMissing = true)
 public class MockServerProvider implements MockHttpServerProvider {
+	private static final DateTimeFormatter LOG_TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(
+			"yyyy-MM-dd HH:mm:ss.SSS");
 	private final Map<String, String> urlEncodedParameters = new HashMap<>();
+	private final List<Expectation> pendingExpectations = new ArrayList<>();
 	private final MockHttpServerWrapper httpServer;
+	private final boolean batchExpectations;
 	private HttpRequest httpRequest;
+	private ResponseFaults faults = ResponseFaults.NONE;
+	private Instant lastClientRequestTime;
+
+	public MockServerProvider(final MockHttpServerWrapper httpServer,
+			@Value("${andromeda.mock.http-server.batch-expectations:false}") final boolean batchExpectations) {
+		this.httpServer = httpServer;
+		this.batchExpectations = batchExpectations;
+	}
 
 	@Override
 	public void createRequestWithUrlPath(final String httpMethod, final String urlPath) {
@@ -36,10 +75,13 @@ public class MockServerProvider implements MockHttpServerProvider {
 	@Override
 	public void createRequestWithUrlPathAndContentType(final String httpMethod, final String urlPath,
 			final String contentType) {
+		// The first mock server step of the run starts the server
+		httpServer.start();
+		faults = ResponseFaults.NONE;
 		httpRequest = HttpRequest.request()
 		                         .withMethod(httpMethod)
 		                         .withPath(urlPath)
-		                         .withContentType(MediaType.parse(contentType));
+		                         .withContentType(httpServer.mediaType(contentType));
 	}
 
 
@@ -76,19 +118,139 @@ public class MockServerProvider implements MockHttpServerProvider {
 
 	@Override
 	public void setResponse(final JsonNode body) {
-		httpServer.delegate()
-		          .when(httpRequest)
-		          .respond(HttpResponse.response(body.toPrettyString())
-		                               .withContentType(MediaType.APPLICATION_JSON_UTF_8));
+		register(HttpResponse.response(body.toPrettyString())
+		                     .withContentType(MediaType.APPLICATION_JSON_UTF_8));
 	}
 
 	@Override
 	public void setResponse(final Integer statusCode, final JsonNode body) {
-		httpServer.delegate()
-		          .when(httpRequest)
-		          .respond(HttpResponse.response(body.toPrettyString())
-		                               .withStatusCode(statusCode)
-		                               .withContentType(MediaType.APPLICATION_JSON_UTF_8));
+		register(HttpResponse.response(body.toPrettyString())
+		                     .withStatusCode(statusCode)
+		                     .withContentType(MediaType.APPLICATION_JSON_UTF_8));
+	}
+
+	@Override
+	public void flushExpectations() {
+		if (pendingExpectations.isEmpty()) {
+			return;
+		}
+		final int expectationsCount = pendingExpectations.size();
+		final long startTime = System.nanoTime();
+		httpServer.delegate().upsert(pendingExpectations.toArray(Expectation[]::new));
+		pendingExpectations.clear();
+		// Every expectation would have been a round trip of its own
+		log.info("Mock server expectations flushed [expectations={}, durationMs={}, savedRoundTrips={}]",
+				expectationsCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), expectationsCount - 1);
+	}
+
+	@Override
+	public void beforeClientRequest() {
+		flushExpectations();
+		lastClientRequestTime = Instant.now();
+	}
+
+	@Override
+	public int receivedRequestsCount(final String urlPath) {
+		if (httpServer.delegate() == null) {
+			return 0;
+		}
+		// The request log is filtered by path on the MockServer side
+		return httpServer.delegate().retrieveRecordedRequests(HttpRequest.request().withPath(urlPath)).length;
+	}
+
+	@Override
+	public List<ReceivedCall> receivedCalls() {
+		if (httpServer.delegate() == null) {
+			// The MockServer isn't used by the scenarios
+			return List.of();
+		}
+		return Arrays.stream(httpServer.delegate().retrieveRecordedRequestsAndResponses(HttpRequest.request()))
+		             .map(requestAndResponse -> {
+			             final HttpRequest request = (HttpRequest) requestAndResponse.getHttpRequest();
+			             final HttpResponse response = requestAndResponse.getHttpResponse();
+			             return new ReceivedCall(request.getMethod().getValue(), request.getPath().getValue(),
+					             receivedAt(requestAndResponse.getTimestamp()),
+					             response == null || response.getStatusCode() == null ? 0 : response.getStatusCode());
+		             })
+		             .sorted(Comparator.comparing(ReceivedCall::receivedAt))
+		             .toList();
+	}
+
+	@Override
+	public Optional<Instant> lastClientRequestTime() {
+		return Optional.ofNullable(lastClientRequestTime);
+	}
+
+	@Override
+	public void setResponseDelay(final Duration delay, final Duration jitter) {
+		faults = faults.withDelay(delay, jitter);
+	}
+
+	@Override
+	public void setResponseChunks(final int chunkSize, final Duration chunkDelay) {
+		if (!chunkDelay.isZero()) {
+			throw new IllegalStateException("""
+					MockServer can't delay the response chunks, use the embedded mock HTTP server instead \
+					[chunkSize=%d, chunkDelayMs=%d, andromeda.mock.http-server.provider=embedded]\
+					""".formatted(chunkSize, chunkDelay.toMillis()));
+		}
+		faults = faults.withChunks(chunkSize, chunkDelay);
+	}
+
+	@Override
+	public void setFailEveryNthCall(final int nthCall, final Integer statusCode) {
+		faults = faults.withFailEveryNthCall(nthCall, statusCode);
+	}
+
+	@Override
+	public void setConnectionReset() {
+		if (!faults.jitter().isZero()) {
+			// MockServer computes only the responses per call, while a dropped connection is a static expectation
+			throw new IllegalStateException("""
+					MockServer can't jitter the delay of a dropped connection, use the embedded mock HTTP server \
+					instead [delayMs=%d, jitterMs=%d, andromeda.mock.http-server.provider=embedded]\
+					""".formatted(faults.delay().toMillis(), faults.jitter().toMillis()));
+		}
+		final HttpError httpError = HttpError.error()
+		                                     .withDropConnection(true)
+		                                     .withDelay(TimeUnit.MILLISECONDS, faults.delay().toMillis());
+		if (batchExpectations) {
+			pendingExpectations.add(Expectation.when(httpRequest.clone()).thenError(httpError));
+		} else {
+			httpServer.delegate().when(httpRequest).error(httpError);
+		}
+	}
+
+	private void register(final HttpResponse httpResponse) {
+		if (faults.isChunked()) {
+			httpResponse.withConnectionOptions(ConnectionOptions.connectionOptions().withChunkSize(faults.chunkSize()));
+		}
+		if (faults.isVaryingPerCall()) {
+			// The response is computed per call by a callback, which can't be part of a bulk upsert. The batched
+			// expectations are flushed first, so they keep matching before the callback, in their registration order
+			flushExpectations();
+			final ResponseFaults callFaults = faults;
+			final AtomicLong calls = new AtomicLong();
+			httpServer.delegate().when(httpRequest).respond(request -> {
+				final HttpResponse callResponse = callFaults.isFailingCall(calls.incrementAndGet())
+						? HttpResponse.response().withStatusCode(callFaults.failureStatusCode())
+						: httpResponse.clone();
+				return callResponse.withDelay(TimeUnit.MILLISECONDS, callFaults.nextDelay().toMillis());
+			});
+			return;
+		}
+		httpResponse.withDelay(TimeUnit.MILLISECONDS, faults.delay().toMillis());
+		if (batchExpectations) {
+			// A copy, so the request can't be changed by the following steps while it waits to be flushed
+			pendingExpectations.add(Expectation.when(httpRequest.clone()).thenRespond(httpResponse));
+		} else {
+			httpServer.delegate().when(httpRequest).respond(httpResponse);
+		}
+	}
+
+	private static Instant receivedAt(final String timestamp) {
+		// The MockServer log timestamps are in the local time zone
+		return LocalDateTime.parse(timestamp, LOG_TIMESTAMP_FORMATTER).atZone(ZoneId.systemDefault()).toInstant();
 	}
 
 	public String urlEncodedBody() {
@@ -1,71 +1,51 @@
 package com.petromirdzhunev.cucumber.spring.context;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.http.HttpRequestReplayer;
+import com.petromirdzhunev.cucumber.http.RecordingFilter;
+import com.petromirdzhunev.cucumber.spring.beans.RestAssuredTemplate;
 
 import io.cucumber.spring.ScenarioScope;
 import io.restassured.RestAssured;
 import io.restassured.config.HttpClientConfig;
-import io.restassured.config.LogConfig;
-import io.restassured.config.ObjectMapperConfig;
-import io.restassured.config.RedirectConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Rest Assured implementation of the HttpClientContext interface.
+ * <p>
+ * Enabled by default or by {@code andromeda.http-client.provider=rest-assured}.
  */
-@Component
 @ScenarioScope
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "andromeda.http-client.provider", havingValue = "rest-assured", matchIfMissing = true)
 public class RestAssuredHttpClientProvider implements HttpClientProvider {
 
-	private static final String LOCALHOST = "http://localhost";
-
-	@Value("${server.port}")
-	private Integer serverPort;
-	private RestAssuredConfig restAssuredConfig;
+	private final RestAssuredTemplate restAssuredTemplate;
+	private final HttpExchangeLog httpExchangeLog;
 	private Response lastHttpResponse;
 	private String method;
 	private RequestSpecification requestSpecification;
-	// FIXME: Replace with JsonConverter once the library is released.
-	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	@Override
-	@PostConstruct
 	public void init() {
-		restAssuredConfig = RestAssured.config()
-				.redirect(RedirectConfig.redirectConfig().followRedirects(true))
-				.objectMapperConfig(
-						ObjectMapperConfig.objectMapperConfig()
-						                  .jackson2ObjectMapperFactory((type, s) ->
-								                  objectMapper.findAndRegisterModules()))
-				.logConfig(LogConfig.logConfig()
-				                    .enablePrettyPrinting(true)
-				                    .urlEncodeRequestUri(true))
-				.httpClient(HttpClientConfig.httpClientConfig().reuseHttpClientInstance());
+		// The shared configuration is built once by the RestAssuredTemplate
 	}
 
 	@Override
 	public void createRequestWithUrlPath(final String httpMethod, final String urlPath) {
-		requestSpecification = RestAssured.given()
-		                                  .baseUri(LOCALHOST)
-		                                  .basePath(urlPath)
-		                                  .port(serverPort)
-		                                  .urlEncodingEnabled(true)
-		                                  .config(restAssuredConfig)
-		                                  .redirects()
-		                                  .follow(true)
-		                                  .contentType(ContentType.JSON)
-		                                  .log()
-		                                  .all();
+		requestSpecification = restAssuredTemplate.newRequest(urlPath);
 
 		this.method = httpMethod;
 	}
@@ -73,17 +53,8 @@ public class RestAssuredHttpClientProvider implements HttpClientProvider {
 	@Override
 	public void createRequestWithUrlPathAndContentType(final String httpMethod, final String urlPath,
 			final String contentType) {
-		requestSpecification = RestAssured.given()
-		                                  .baseUri(LOCALHOST)
-		                                  .basePath(urlPath)
-		                                  .port(serverPort)
-		                                  .urlEncodingEnabled(true)
-		                                  .config(restAssuredConfig)
-		                                  .redirects()
-		                                  .follow(true)
-		                                  .contentType(ContentType.fromContentType(contentType))
-		                                  .log()
-		                                  .all();
+		requestSpecification = restAssuredTemplate.newRequest(urlPath)
+		                                          .contentType(restAssuredTemplate.contentType(contentType));
 
 		this.method = httpMethod;
 	}
@@ -116,12 +87,44 @@ public class RestAssuredHttpClientProvider implements HttpClientProvider {
 
 	@Override
 	public void sendRequest() {
-		lastHttpResponse = switch (method) {
-			case "GET" -> requestSpecification.get().then().log().all().extract().response();
-			case "POST" -> requestSpecification.post().then().log().all().extract().response();
-			case "PUT" -> requestSpecification.put().then().log().all().extract().response();
-			case "DELETE" -> requestSpecification.delete().then().log().all().extract().response();
-			default -> throw new IllegalArgumentException("Unsupported HTTP method [name=%s]".formatted(method));
+		// The logging is added to a copy, so the prepared request can still be replayed without it
+		final RequestSpecification sentRequestSpecification = RestAssured.given().spec(requestSpecification);
+		if (httpExchangeLog.isLogOnFailure()) {
+			lastHttpResponse = sentRequestSpecification.filter(new RecordingFilter(httpExchangeLog::record))
+			                                           .request(method);
+		} else {
+			lastHttpResponse = sentRequestSpecification.log().all().request(method).then().log().all().extract()
+			                                           .response();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public HttpRequestReplayer requestReplayer(final int concurrency) {
+		// The default connection manager of Rest Assured holds a single connection, which can't be shared by threads
+		final PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+		connectionManager.setMaxTotal(concurrency);
+		connectionManager.setDefaultMaxPerRoute(concurrency);
+		final RestAssuredConfig replayConfig = restAssuredTemplate.config().httpClient(
+				HttpClientConfig.httpClientConfig()
+				                .reuseHttpClientInstance()
+				                .httpClientFactory(() -> new DefaultHttpClient(connectionManager)));
+		final RequestSpecification replaySpecification = RestAssured.given()
+		                                                            .spec(requestSpecification)
+		                                                            .config(replayConfig);
+		return new HttpRequestReplayer() {
+			@Override
+			public int replay() {
+				final Response response = RestAssured.given().spec(replaySpecification).request(method);
+				// Reading the body releases the connection back to the pool
+				response.asByteArray();
+				return response.getStatusCode();
+			}
+
+			@Override
+			public void close() {
+				connectionManager.shutdown();
+			}
 		};
 	}
 
@@ -139,4 +142,16 @@ public class RestAssuredHttpClientProvider implements HttpClientProvider {
 	public String responseBodyAsString() {
 		return lastHttpResponse.getBody().asString();
 	}
+
+	@Override
+	public Duration responseTime() {
+		// Measured by Rest Assured, without the logging and the response body parsing
+		return Duration.ofMillis(lastHttpResponse.getTimeIn(TimeUnit.MILLISECONDS));
+	}
+
+	@Override
+	public Optional<Duration> responseTimeToFirstByte() {
+		// Rest Assured measures only the whole exchange
+		return Optional.empty();
+	}
 }
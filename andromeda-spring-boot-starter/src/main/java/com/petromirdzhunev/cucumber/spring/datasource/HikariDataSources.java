@@ -0,0 +1,27 @@
+package com.petromirdzhunev.cucumber.spring.datasource;
+
+import java.util.function.Consumer;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Helper creating new Hikari pools out of the configuration of the application one.
+ */
+public final class HikariDataSources {
+
+	private HikariDataSources() {
+	}
+
+	/**
+	 * Creates a new pool with the same configuration as the given one, after applying the customizer to it.
+	 */
+	public static HikariDataSource copyOf(final HikariConfig originalConfig, final String poolNameSuffix,
+			final Consumer<HikariConfig> customizer) {
+		final HikariConfig config = new HikariConfig();
+		originalConfig.copyStateTo(config);
+		config.setPoolName("%s-%s".formatted(originalConfig.getPoolName(), poolNameSuffix));
+		customizer.accept(config);
+		return new HikariDataSource(config);
+	}
+}
@@ -0,0 +1,162 @@
+package com.petromirdzhunev.cucumber.spring.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.petromirdzhunev.cucumber.database.SqlStatement;
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
+
+/**
+ * A {@link DataSource} recording every statement executed through its connections in the
+ * {@link SqlStatementRecorder}, with its execution time and rows. The connections, the statements and the result sets
+ * are wrapped in dynamic proxies, which only time the {@code execute*} methods and count the fetched rows, so the
+ * overhead is a reflective call per JDBC method.
+ */
+public class StatementRecordingDataSource extends DelegatingDataSource {
+
+	private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement",
+			"prepareCall");
+
+	private final SqlStatementRecorder recorder;
+
+	public StatementRecordingDataSource(final DataSource targetDataSource, final SqlStatementRecorder recorder) {
+		super(targetDataSource);
+		this.recorder = recorder;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connectionProxy(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		return connectionProxy(super.getConnection(username, password));
+	}
+
+	private Connection connectionProxy(final Connection connection) {
+		return proxy(Connection.class, (proxy, method, arguments) -> {
+			final Object result = invoke(connection, method, arguments);
+			if (STATEMENT_FACTORY_METHODS.contains(method.getName()) && result instanceof Statement statement) {
+				// The prepared statements get their SQL when they are created, the plain ones when they are executed
+				final String sql = method.getName().equals("createStatement") ? null : (String) arguments[0];
+				return statementProxy(statement, sql);
+			}
+			return result;
+		});
+	}
+
+	private Statement statementProxy(final Statement statement, final String preparedSql) {
+		final Class<? extends Statement> statementType = switch (statement) {
+			case CallableStatement ignored -> CallableStatement.class;
+			case PreparedStatement ignored -> PreparedStatement.class;
+			default -> Statement.class;
+		};
+		final StatementHandler handler = new StatementHandler(statement, preparedSql);
+		return proxy(statementType, handler);
+	}
+
+	private final class StatementHandler implements InvocationHandler {
+
+		private final Statement statement;
+		private final String preparedSql;
+		private final List<String> batchedSql = new ArrayList<>();
+		private SqlStatement lastStatement;
+
+		private StatementHandler(final Statement statement, final String preparedSql) {
+			this.statement = statement;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+			final String methodName = method.getName();
+			if (methodName.equals("addBatch") && arguments != null && arguments.length == 1) {
+				batchedSql.add((String) arguments[0]);
+			}
+			if (!methodName.startsWith("execute") || !recorder.isRecording()) {
+				final Object result = StatementRecordingDataSource.invoke(statement, method, arguments);
+				return methodName.equals("getResultSet") && result instanceof ResultSet resultSet
+						? resultSetProxy(resultSet)
+						: result;
+			}
+
+			final long startTime = System.nanoTime();
+			final Object result = StatementRecordingDataSource.invoke(statement, method, arguments);
+			final Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+			lastStatement = new SqlStatement(sql(methodName, arguments), duration, changedRows(result));
+			recorder.record(lastStatement);
+			return result instanceof ResultSet resultSet ? resultSetProxy(resultSet) : result;
+		}
+
+		private String sql(final String methodName, final Object[] arguments) {
+			if (arguments != null && arguments.length > 0 && arguments[0] instanceof String sql) {
+				return sql;
+			}
+			if (methodName.startsWith("executeBatch") || methodName.startsWith("executeLargeBatch")) {
+				final String sql = preparedSql != null ? preparedSql : String.join("; ", batchedSql);
+				batchedSql.clear();
+				return sql;
+			}
+			return String.valueOf(preparedSql);
+		}
+
+		private long changedRows(final Object result) throws SQLException {
+			return switch (result) {
+				case Integer rows -> Math.max(rows, 0);
+				case Long rows -> Math.max(rows, 0);
+				case int[] rows -> Arrays.stream(rows).filter(count -> count > 0).asLongStream().sum();
+				case long[] rows -> Arrays.stream(rows).filter(count -> count > 0).sum();
+				// An execute() returning false has no result set, but an update count
+				case Boolean hasResultSet when !hasResultSet -> Math.max(statement.getUpdateCount(), 0);
+				case null, default -> 0;
+			};
+		}
+
+		private ResultSet resultSetProxy(final ResultSet resultSet) {
+			final SqlStatement countedStatement = lastStatement;
+			if (countedStatement == null) {
+				return resultSet;
+			}
+			return proxy(ResultSet.class, (proxy, method, arguments) -> {
+				final Object result = StatementRecordingDataSource.invoke(resultSet, method, arguments);
+				if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+					countedStatement.rows().incrementAndGet();
+				}
+				return result;
+			});
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(StatementRecordingDataSource.class.getClassLoader(), new Class<?>[] {type},
+				handler);
+	}
+
+	private static Object invoke(final Object target, final Method method, final Object[] arguments)
+			throws Throwable {
+		try {
+			return method.invoke(target, arguments);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.petromirdzhunev.cucumber.spring.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link StatementRecordingDataSource}, so the SQL statements executed
+ * by the application under test can be asserted. It runs after the {@link SwitchableDataSourcePostProcessor}, so the
+ * statements are recorded whichever database the connections are switched to.
+ */
+public class StatementRecordingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+	private final ObjectProvider<SqlStatementRecorder> recorder;
+
+	public StatementRecordingDataSourcePostProcessor(final ObjectProvider<SqlStatementRecorder> recorder) {
+		this.recorder = recorder;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof StatementRecordingDataSource)) {
+			return new StatementRecordingDataSource(dataSource, recorder.getObject());
+		}
+		return bean;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+}
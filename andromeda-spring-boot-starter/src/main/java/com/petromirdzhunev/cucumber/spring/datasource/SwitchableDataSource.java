@@ -0,0 +1,35 @@
+package com.petromirdzhunev.cucumber.spring.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A {@link DataSource} delegating to a target which can be replaced at runtime, so the application under test can be
+ * re-pointed to another database without restarting the Spring context.
+ */
+public class SwitchableDataSource extends DelegatingDataSource {
+
+	private volatile DataSource activeDataSource;
+
+	public SwitchableDataSource(final DataSource initialDataSource) {
+		super(initialDataSource);
+		this.activeDataSource = initialDataSource;
+	}
+
+	/**
+	 * Routes all the new connections to the given data source.
+	 *
+	 * @return the data source used until now
+	 */
+	public DataSource switchTo(final DataSource dataSource) {
+		final DataSource previousDataSource = activeDataSource;
+		activeDataSource = dataSource;
+		return previousDataSource;
+	}
+
+	@Override
+	public DataSource getTargetDataSource() {
+		return activeDataSource;
+	}
+}
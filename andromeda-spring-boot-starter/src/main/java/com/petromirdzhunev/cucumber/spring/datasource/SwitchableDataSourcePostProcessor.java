@@ -0,0 +1,31 @@
+package com.petromirdzhunev.cucumber.spring.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Wraps the application {@link HikariDataSource} in a {@link SwitchableDataSource}, so the database isolation modes
+ * can re-point the application connections between scenarios.
+ */
+@ConditionalOnExpression("'${andromeda.database.isolation:truncate}' matches 'template|schema'")
+public class SwitchableDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		if (bean instanceof HikariDataSource dataSource) {
+			return new SwitchableDataSource(dataSource);
+		}
+		return bean;
+	}
+
+	@Override
+	public int getOrder() {
+		// Before the StatementRecordingDataSourcePostProcessor, which wraps the switchable data source
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,30 @@
+package com.petromirdzhunev.cucumber.spring.environment;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+
+import com.petromirdzhunev.cucumber.spring.beans.MockHttpServer;
+
+/**
+ * Binds the {@link MockHttpServerPortPropertySource} to the mock HTTP server bean before any bean resolves the port.
+ */
+public class MockHttpServerPortBinder implements BeanFactoryPostProcessor, EnvironmentAware {
+
+	private ConfigurableEnvironment environment;
+
+	@Override
+	public void setEnvironment(final Environment environment) {
+		this.environment = (ConfigurableEnvironment) environment;
+	}
+
+	@Override
+	public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+		if (environment.getPropertySources()
+		               .get(MockHttpServerPortPropertySource.NAME) instanceof MockHttpServerPortPropertySource portSource) {
+			portSource.bind(() -> beanFactory.getBean(MockHttpServer.class));
+		}
+	}
+}
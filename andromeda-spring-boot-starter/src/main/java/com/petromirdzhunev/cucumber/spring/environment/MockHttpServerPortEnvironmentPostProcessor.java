@@ -0,0 +1,28 @@
+package com.petromirdzhunev.cucumber.spring.environment;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Binds the mock HTTP server to a port chosen by the operating system when {@code mock.http-server.port} is {@code 0}
+ * or isn't set, and publishes the bound port through the {@link MockHttpServerPortPropertySource}. So the application
+ * under test can refer to the mock server through {@code ${mock.http-server.port}}, while every Spring context (e.g.,
+ * one per Surefire fork) gets its own mock server instance, without clashing ports. The port is never probed and
+ * released ahead of binding, so the forks can't race for it.
+ * <p>
+ * The scenarios running in parallel threads of one context share its server, as the application under test is
+ * configured with a single URL per dependency.
+ */
+public class MockHttpServerPortEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	@Override
+	public void postProcessEnvironment(final ConfigurableEnvironment environment,
+			final SpringApplication application) {
+		final boolean enabled = environment.getProperty("andromeda.mock.http-server.enabled", Boolean.class, true);
+		final Integer port = environment.getProperty(MockHttpServerPortPropertySource.PORT_PROPERTY, Integer.class, 0);
+		if (enabled && port == 0 && !environment.getPropertySources().contains(MockHttpServerPortPropertySource.NAME)) {
+			environment.getPropertySources().addFirst(new MockHttpServerPortPropertySource());
+		}
+	}
+}
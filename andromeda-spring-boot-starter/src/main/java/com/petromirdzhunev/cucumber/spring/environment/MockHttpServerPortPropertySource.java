@@ -0,0 +1,56 @@
+package com.petromirdzhunev.cucumber.spring.environment;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.env.EnumerablePropertySource;
+
+import com.petromirdzhunev.cucumber.spring.beans.MockHttpServer;
+
+/**
+ * Publishes the port of the mock HTTP server bound to a port chosen by the operating system. The server is started
+ * when {@code mock.http-server.port} is first resolved (e.g., by the configuration of the application under test), so
+ * the published port is the one the server actually listens on. The server itself binds to
+ * {@code andromeda.mock.http-server.bind-port}, which is {@code 0} here.
+ */
+public class MockHttpServerPortPropertySource extends EnumerablePropertySource<Object> {
+
+	public static final String NAME = "andromedaMockHttpServerPort";
+	public static final String PORT_PROPERTY = "mock.http-server.port";
+	public static final String BIND_PORT_PROPERTY = "andromeda.mock.http-server.bind-port";
+
+	private volatile Supplier<MockHttpServer> mockHttpServer;
+
+	public MockHttpServerPortPropertySource() {
+		super(NAME, new Object());
+	}
+
+	/**
+	 * Binds the property source to the mock HTTP server bean, once the bean factory is available.
+	 */
+	public void bind(final Supplier<MockHttpServer> mockHttpServer) {
+		this.mockHttpServer = mockHttpServer;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		// Enumerable, so the configuration properties binding doesn't probe this source for every nested property
+		return new String[] { PORT_PROPERTY, BIND_PORT_PROPERTY };
+	}
+
+	@Override
+	public Object getProperty(final String name) {
+		if (BIND_PORT_PROPERTY.equals(name)) {
+			return 0;
+		}
+		if (!PORT_PROPERTY.equals(name)) {
+			return null;
+		}
+		if (mockHttpServer == null) {
+			throw new IllegalStateException("Mock HTTP server port is resolved before the Spring context is refreshed "
+					+ "[property=%s]".formatted(PORT_PROPERTY));
+		}
+		final MockHttpServer server = mockHttpServer.get();
+		server.start();
+		return server.port();
+	}
+}
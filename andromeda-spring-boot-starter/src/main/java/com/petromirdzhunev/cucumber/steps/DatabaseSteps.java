@@ -1,8 +1,8 @@
 package com.petromirdzhunev.cucumber.steps;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -10,85 +10,190 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
+import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.InsertValuesStepN;
 import org.jooq.Query;
-import org.jooq.Results;
+import org.jooq.Record;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.springframework.beans.factory.ObjectProvider;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.petromirdzhunev.cucumber.database.ColumnType;
+import com.petromirdzhunev.cucumber.database.ColumnValues;
+import com.petromirdzhunev.cucumber.database.GeneratedRows;
+import com.petromirdzhunev.cucumber.database.QueryPlan;
+import com.petromirdzhunev.cucumber.database.SqlStatement;
+import com.petromirdzhunev.cucumber.database.TableRowsComparator;
+import com.petromirdzhunev.cucumber.exception.DatabaseIsolationException;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLBulkLoader;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLDatabaseTemplate;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLQueryPlanner;
+import com.petromirdzhunev.cucumber.spring.beans.PostgreSQLSchemaMetadata;
+import com.petromirdzhunev.cucumber.spring.beans.SqlStatementRecorder;
 
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
-import lombok.RequiredArgsConstructor;
-import net.javacrumbs.jsonunit.assertj.JsonAssertions;
-import net.javacrumbs.jsonunit.core.Option;
+import io.qameta.allure.Allure;
 
 /**
  * Definition of all Database steps.
  */
-@RequiredArgsConstructor
 public class DatabaseSteps {
 
-	private static final String DATABASE_TABLE_DATA_SEPARATOR = "|";
+	private static final int FETCH_SIZE = 1000;
+	private static final long DEFAULT_GENERATOR_SEED = 42;
 
 	private final DSLContext db;
+	private final PostgreSQLBulkLoader bulkLoader;
+	private final PostgreSQLSchemaMetadata schemaMetadata;
+	private final SqlStatementRecorder sqlStatementRecorder;
+	private final PostgreSQLQueryPlanner queryPlanner;
+	// Absent unless andromeda.database.isolation=template
+	private final ObjectProvider<PostgreSQLDatabaseTemplate> databaseTemplate;
 	// FIXME: Replace with JsonConverter once the library is released.
 	private final ObjectMapper objectMapper;
+	private final ColumnValues columnValues;
+
+	public DatabaseSteps(final DSLContext db, final PostgreSQLBulkLoader bulkLoader,
+			final PostgreSQLSchemaMetadata schemaMetadata, final SqlStatementRecorder sqlStatementRecorder,
+			final PostgreSQLQueryPlanner queryPlanner, final ObjectProvider<PostgreSQLDatabaseTemplate> databaseTemplate,
+			final ObjectMapper objectMapper) {
+		this.db = db;
+		this.bulkLoader = bulkLoader;
+		this.schemaMetadata = schemaMetadata;
+		this.sqlStatementRecorder = sqlStatementRecorder;
+		this.queryPlanner = queryPlanner;
+		this.databaseTemplate = databaseTemplate;
+		this.objectMapper = objectMapper;
+		this.columnValues = new ColumnValues(objectMapper);
+	}
 
 	@Given("[DB] table {tableName} has rows")
 	public void populateTableWithRecords(final String tableName, final DataTable dataTable) {
-		List<List<String>> rows = new ArrayList<>(dataTable.asLists());
+		List<List<String>> rows = dataTable.asLists();
 		List<String> columnNames = rows.getFirst();
 
+		// Start from the second element as the first one contains the column name
+		if (bulkLoader.isWorthBulkLoading(rows.size() - 1)) {
+			bulkLoader.load(tableName, columnNames, rows.listIterator(1));
+			return;
+		}
+
 		Table<?> table = DSL.table(DSL.name(tableName));
+		List<ColumnType> columnTypes = schemaMetadata.columnTypes(tableName, columnNames);
+		Field<?>[] fields = new Field[columnNames.size()];
+		for (int i = 0; i < fields.length; i++) {
+			final DataType<?> dataType = columnTypes.get(i).dataType();
+			fields[i] = dataType == null
+					? DSL.field(DSL.name(columnNames.get(i)))
+					: DSL.field(DSL.name(columnNames.get(i)), dataType);
+		}
 		List<Query> insertQueries = new ArrayList<>(rows.size() - 1);
-		// Start from the second element as the first one contains the column name
 		ListIterator<List<String>> rowsIterator = rows.listIterator(1);
 		while (rowsIterator.hasNext()) {
-			InsertValuesStepN<?> insertQuery = db.insertInto(table,
-					columnNames.stream().map(columnName -> DSL.field(DSL.name(columnName)))
-							.toArray(Field[]::new))
-					.values(rowsIterator.next());
+			final List<String> row = rowsIterator.next();
+			final List<Object> values = new ArrayList<>(row.size());
+			for (int i = 0; i < row.size(); i++) {
+				values.add(columnValues.parse(columnTypes.get(i), row.get(i)));
+			}
+			InsertValuesStepN<?> insertQuery = db.insertInto(table, fields).values(values);
 			insertQueries.add(insertQuery);
 		}
 
 		db.batch(insertQueries).execute();
 	}
 
+	@Given("[DB] table {tableName} has rows from file {filePath}")
+	public void populateTableWithRecordsFromFile(final String tableName, final String filePath) {
+		bulkLoader.loadFile(tableName, filePath);
+	}
+
+	@Given("[DB] table {tableName} has {long} generated rows")
+	public void populateTableWithGeneratedRecords(final String tableName, final Long rowsCount,
+			final DataTable generators) {
+		populateTableWithGeneratedRecords(tableName, rowsCount, DEFAULT_GENERATOR_SEED, generators);
+	}
+
+	@Given("[DB] table {tableName} has {long} generated rows with seed {long}")
+	public void populateTableWithGeneratedRecords(final String tableName, final Long rowsCount, final Long seed,
+			final DataTable generators) {
+		// The first row contains the "column | generator" header
+		final List<List<String>> columnGenerators = generators.asLists().subList(1, generators.height());
+		final List<String> columnNames = columnGenerators.stream().map(List::getFirst).toList();
+		final List<String> generatorTemplates = columnGenerators.stream().map(List::getLast).toList();
+
+		// The rows are generated while they are streamed, so they are never held in memory
+		bulkLoader.load(tableName, columnNames, new GeneratedRows(rowsCount, generatorTemplates, seed));
+	}
+
+	/**
+	 * Captures the database seeded so far as the template, which every following scenario starts from a clone of.
+	 */
+	@Given("[DB] the current database is captured as the template")
+	public void captureDatabaseTemplate() {
+		final PostgreSQLDatabaseTemplate template = databaseTemplate.getIfAvailable();
+		if (template == null) {
+			throw new DatabaseIsolationException("""
+					Capturing the database template requires the template isolation \
+					[andromeda.database.isolation=template]""");
+		}
+		template.snapshot();
+	}
+
 	@Then("[DB] table {tableName} must have rows")
 	public void checkTableContent(final String tableName, final DataTable expected) {
-		List<List<String>> rows = new ArrayList<>(expected.asLists());
-		List<String> columns = rows.getFirst();
+		checkTableContent(tableName, DSL.noCondition(), expected);
+	}
+
+	@Then("[DB] table {tableName} must have rows where {columnName} = {value}")
+	public void checkTableContentWhere(final String tableName, final String columnName, final String value,
+			final DataTable expected) {
+		checkTableContent(tableName, equalTo(tableName, columnName, value), expected);
+	}
 
-		// Extract the expected rows data
-		final List<Map<String, String>> expectedRowsData = expectedRowData(rows, columns);
+	@Then("[DB] table {tableName} must have {long} rows")
+	public void checkTableRowsCount(final String tableName, final Long expectedCount) {
+		checkTableRowsCount(tableName, DSL.noCondition(), expectedCount);
+	}
 
-		// Extract the actual rows data
-		String requiredDataSql = "SELECT %s FROM %s".formatted(String.join(",", columns.toArray(new String[0])),
-				tableName);
-		final List<Map<String, String>> actualRowsData = actualRowsData(db.fetchMany(requiredDataSql));
+	@Then("[DB] table {tableName} must have {long} rows where {columnName} = {value}")
+	public void checkTableRowsCountWhere(final String tableName, final Long expectedCount, final String columnName,
+			final String value) {
+		checkTableRowsCount(tableName, equalTo(tableName, columnName, value), expectedCount);
+	}
 
-		Assertions.assertThat(actualRowsData)
-		          .withFailMessage(() -> """
-				          Db rows number differs [actualRows=%d, expectedRows=%d]%s%s
-				          """.formatted(actualRowsData.size(), expectedRowsData.size(),
-				          formattedRorws(columns, actualRowsData, "Actual rows"),
-				          formattedRorws(columns, expectedRowsData, "Expected rows")))
-		          .hasSameSizeAs(expectedRowsData);
+	@Then("[DB] table {tableName} column {columnName} {aggregateFunction} must be {value}")
+	public void checkColumnAggregate(final String tableName, final String columnName, final String aggregateFunction,
+			final String expectedValue) {
+		final Field<Object> column = DSL.field(DSL.unquotedName(columnName));
+		final Field<?> aggregate = switch (aggregateFunction) {
+			case "count" -> DSL.count(column);
+			case "sum" -> DSL.sum(column.coerce(BigDecimal.class));
+			case "avg" -> DSL.avg(column.coerce(BigDecimal.class));
+			case "min" -> DSL.min(column);
+			case "max" -> DSL.max(column);
+			default -> throw new IllegalArgumentException("Unsupported aggregate function [name=%s]"
+					.formatted(aggregateFunction));
+		};
+		// Only the single aggregated value is transferred
+		final Object actualValue = db.select(aggregate).from(DSL.table(DSL.unquotedName(tableName))).fetchOne(0);
 
-		JsonAssertions.assertThatJson(mapToJson(actualRowsData))
-		              .when(Option.IGNORING_ARRAY_ORDER)
-		              .withFailMessage(() -> "Db actual and expected [DB] data differs %s%s"
-						              .formatted(formattedRorws(columns, actualRowsData, "Actual rows"),
-								              formattedRorws(columns, expectedRowsData, "Expected rows")))
-		              .isEqualTo(mapToJson(expectedRowsData));
+		final ColumnType columnType = switch (aggregateFunction) {
+			case "count", "sum", "avg" -> ColumnType.DECIMAL;
+			default -> schemaMetadata.columnTypes(tableName, List.of(columnName)).getFirst();
+		};
+		Assertions.assertThat(columnValues.normalize(columnType, actualValue))
+		          .as("Db column %s is different from the expected value [tableName=%s, columnName=%s]",
+				          aggregateFunction, tableName, columnName)
+		          .isEqualTo("null".equals(expectedValue) ? null : columnValues.normalizeWritten(columnType,
+				          expectedValue));
 	}
 
 	@Then("[DB] table {tableName} must be empty")
@@ -99,114 +204,141 @@ public class DatabaseSteps {
 		          .isFalse();
 	}
 
-	private List<Map<String, String>> actualRowsData(final Results actualDataResults) {
-		return actualDataResults
+	@Then("[DB] application must have executed at most {int} queries")
+	public void checkExecutedStatementsCount(final Integer maxStatementsCount) {
+		Assertions.assertThat(sqlStatementRecorder.statements())
+		          .as("Db application executed more queries than expected%n%s", sqlStatementRecorder.summary())
+		          .hasSizeLessThanOrEqualTo(maxStatementsCount);
+	}
+
+	@Then("[DB] application must have executed no repeated query more than {int} times")
+	public void checkRepeatedStatementsCount(final Integer maxExecutionsCount) {
+		final Map<String, Long> executionCounts = sqlStatementRecorder.executionCounts();
+		Assertions.assertThat(executionCounts.values().stream().findFirst().orElse(0L))
+		          .as("Db application repeated a query more times than expected%n%s", sqlStatementRecorder.summary())
+		          .isLessThanOrEqualTo(maxExecutionsCount.longValue());
+	}
+
+	@Then("[DB] queries on table {tableName} must not use sequential scans")
+	public void checkNoSequentialScans(final String tableName) {
+		checkNoSequentialScans(tableName, executedQueryPlans(tableName, true));
+	}
+
+	@Then("[DB] query on table {tableName} where {columnName} = {value} must not use sequential scans")
+	public void checkNoSequentialScansWhere(final String tableName, final String columnName, final String value) {
+		final String sql = db.renderInlined(DSL.selectFrom(DSL.table(DSL.unquotedName(tableName)))
+		                                       .where(equalTo(tableName, columnName, value)));
+		checkNoSequentialScans(tableName, queryPlanner.explain(sql, true).stream().toList());
+	}
+
+	@Then("[DB] queries on table {tableName} must have estimated cost below {double}")
+	public void checkQueriesCost(final String tableName, final Double maxCost) {
+		final List<QueryPlan> expensivePlans = executedQueryPlans(tableName, false)
 				.stream()
-				.flatMap(Collection::stream)
-				.map(row -> {
-					// Using LinkedHashMap ensures that order is kept
-					Map<String, String> dbRecords =
-							row.intoMap()
-							   .entrySet()
-					           .stream()
-					           .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(),
-									           stringValue(entry.getValue())), LinkedHashMap::putAll);
-					return dbRecords;
-				})
+				.filter(plan -> plan.totalCost() >= maxCost)
 				.toList();
+		attachQueryPlans("Db expensive query plans", expensivePlans);
+		Assertions.assertThat(expensivePlans)
+		          .as("Db queries have an estimated cost above the limit [tableName=%s, maxCost=%s]", tableName,
+				          maxCost)
+		          .extracting(QueryPlan::sql)
+		          .isEmpty();
 	}
 
-	private List<Map<String, String>> expectedRowData(final List<List<String>> rows,
-			final List<String> columns) {
-		ListIterator<List<String>> rowsIterator = rows.listIterator(1);
-		// The first element contains the column metadata, so we need to start from the second one.
-		List<Map<String, String>> expectedRowsData = new ArrayList<>(rows.size() - 1);
+	private void checkTableContent(final String tableName, final Condition condition, final DataTable expected) {
+		List<List<String>> rows = expected.asLists();
+		List<String> columns = rows.getFirst();
 
-		while (rowsIterator.hasNext()) {
-			final List<String> nextRow = rowsIterator.next();
-			// LinkedHashMap guarantees the order is preserved.
-			Map<String, String> expectedRowData = new LinkedHashMap<>(nextRow.size());
-			for (int i = 0; i < nextRow.size(); i++) {
-				final String columnName = columns.get(i);
-				String expectedValue = nextRow.get(i);
-				if ("null".equals(expectedValue)) {
-					expectedValue = null;
+		// The first element contains the column names, so the expected rows start from the second one
+		final TableRowsComparator comparator = new TableRowsComparator(columns,
+				schemaMetadata.columnTypes(tableName, columns), rows.listIterator(1), columnValues);
+
+		// The actual rows are filtered by the database and streamed, as only the unmatched ones are kept by the comparator
+		final List<Field<Object>> fields = columns.stream().map(column -> DSL.field(DSL.unquotedName(column))).toList();
+		db.transaction(configuration -> {
+			try (Cursor<Record> cursor = configuration.dsl()
+			                                          .select(fields)
+			                                          .from(DSL.table(DSL.unquotedName(tableName)))
+			                                          .where(condition)
+			                                          .fetchSize(FETCH_SIZE)
+			                                          .fetchLazy()) {
+				for (Record record : cursor) {
+					comparator.addActualRow(Arrays.asList(record.intoArray()));
 				}
-				expectedRowData.put(columnName, expectedValue);
 			}
-			expectedRowsData.add(expectedRowData);
+		});
+
+		Assertions.assertThat(comparator.matches())
+		          .withFailMessage(() -> comparator.difference(tableName))
+		          .isTrue();
+	}
+
+	private void checkTableRowsCount(final String tableName, final Condition condition, final Long expectedCount) {
+		final long actualCount = db.fetchCount(DSL.table(DSL.unquotedName(tableName)), condition);
+		Assertions.assertThat(actualCount)
+		          .as("Db table rows count is different from the expected count [tableName=%s, condition=%s]",
+				          tableName, condition)
+		          .isEqualTo(expectedCount);
+	}
+
+	private Condition equalTo(final String tableName, final String columnName, final String value) {
+		if ("null".equals(value)) {
+			return DSL.field(DSL.unquotedName(columnName)).isNull();
 		}
-		return expectedRowsData;
-	}
-
-	private String mapToJson(final List<Map<String, String>> rowsData) {
-		return rowsData.stream()
-		               .map(Map::entrySet)
-		               .map(entrySet -> {
-						   final String entries = entrySet
-								   .stream()
-								   .map(entry -> {
-									   final String prettifiedValue = prettifiedValue(entry.getValue());
-									   if (entry.getValue() == null || prettifiedValue.equals(entry.getValue())) {
-										   return "\"%s\" : \"%s\"".formatted(entry.getKey(), prettifiedValue);
-									   } else {
-										   return "\"%s\" : %s".formatted(entry.getKey(), prettifiedValue);
-									   }
-								   })
-								   .collect(Collectors.joining("," + System.lineSeparator()));
-			               return "{\n" + entries + "\n}";
-
-		               })
-		          .collect(Collectors.joining("," + System.lineSeparator(), "[", "]"));
-	}
-
-	private String prettifiedValue(final String value) {
-		if (value != null) {
-			try {
-				JsonNode jsonNode = objectMapper.readTree(value);
-				if (jsonNode instanceof ObjectNode || jsonNode instanceof ArrayNode) {
-					return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode);
+		final ColumnType columnType = schemaMetadata.columnTypes(tableName, List.of(columnName)).getFirst();
+		if (columnType.dataType() == null) {
+			return DSL.field(DSL.unquotedName(columnName)).eq(value);
+		}
+		@SuppressWarnings("unchecked")
+		final Field<Object> column = (Field<Object>) DSL.field(DSL.unquotedName(columnName), columnType.dataType());
+		return column.eq(columnValues.parse(columnType, value));
+	}
 
-				}
-			} catch (Exception exception) {
-				// Do nothing
-			}
+	/**
+	 * @return the plans of the distinct queries the application executed on the table during the scenario. The
+	 * statements which can't be explained, e.g., the writes, are attached to the report instead.
+	 */
+	private List<QueryPlan> executedQueryPlans(final String tableName, final boolean disableSequentialScans) {
+		final List<SqlStatement> statements = sqlStatementRecorder.distinctStatementsOnTable(tableName);
+		Assertions.assertThat(statements)
+		          .as("Db application executed no queries on the table [tableName=%s]", tableName)
+		          .isNotEmpty();
+		final List<QueryPlan> plans = new ArrayList<>(statements.size());
+		final List<String> unexplainedStatements = new ArrayList<>();
+		for (SqlStatement statement : statements) {
+			queryPlanner.explain(statement.sql(), disableSequentialScans)
+			            .ifPresentOrElse(plans::add, () -> unexplainedStatements.add(statement.sql()));
 		}
-		return value;
-	}
-
-	private String stringValue(final Object value) {
-		String stringValue = null;
-		if (value != null) {
-			// Check if the class is a byte array
-			if (value.getClass().isArray()) {
-				stringValue = new String((byte[]) value);
-			} else if (value.getClass().getName().equals("[B")) {
-				stringValue = Arrays.toString((Object[]) value);
-			} else {
-				stringValue = String.valueOf(value);
-			}
+		if (!unexplainedStatements.isEmpty()) {
+			Allure.addAttachment("Db unexplained statements", "text/plain",
+					String.join(System.lineSeparator(), unexplainedStatements), ".txt");
+		}
+		return plans;
+	}
+
+	private void checkNoSequentialScans(final String tableName, final List<QueryPlan> plans) {
+		final List<QueryPlan> sequentialScanPlans = plans
+				.stream()
+				.filter(plan -> plan.sequentiallyScannedTables().stream().anyMatch(tableName::equalsIgnoreCase))
+				.toList();
+		attachQueryPlans("Db sequential scan query plans", sequentialScanPlans);
+		Assertions.assertThat(sequentialScanPlans)
+		          .as("Db queries use sequential scans, as no index matches them [tableName=%s]", tableName)
+		          .extracting(QueryPlan::sql)
+		          .isEmpty();
+	}
+
+	private void attachQueryPlans(final String name, final List<QueryPlan> plans) {
+		if (plans.isEmpty()) {
+			return;
+		}
+		final Map<String, Object> plansBySql = plans.stream().collect(Collectors.toMap(QueryPlan::sql, QueryPlan::plan,
+				(first, second) -> first, LinkedHashMap::new));
+		try {
+			Allure.addAttachment(name, "application/json",
+					objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(plansBySql), ".json");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize the query plans", e);
 		}
-		return stringValue;
-	}
-
-	private String formattedRorws(final List<String> columns, final List<Map<String, String>> rowsData,
-			final String rowType) {
-		final StringBuilder messageBuilder = new StringBuilder();
-		messageBuilder.append(System.lineSeparator());
-		messageBuilder.append(rowType);
-		messageBuilder.append(System.lineSeparator());
-		messageBuilder.append(columns.stream()
-		                             .collect(Collectors.joining(DATABASE_TABLE_DATA_SEPARATOR,
-				                             DATABASE_TABLE_DATA_SEPARATOR, DATABASE_TABLE_DATA_SEPARATOR)));
-		messageBuilder.append(System.lineSeparator());
-		rowsData.forEach(databaseRow -> {
-			messageBuilder.append(databaseRow.values()
-			                                 .stream()
-			                                 .collect(Collectors.joining(DATABASE_TABLE_DATA_SEPARATOR,
-					                                 DATABASE_TABLE_DATA_SEPARATOR, DATABASE_TABLE_DATA_SEPARATOR)));
-			messageBuilder.append(System.lineSeparator());
-		});
-		return messageBuilder.toString();
 	}
 }
@@ -1,13 +1,22 @@
 package com.petromirdzhunev.cucumber.steps;
 
+import java.time.Duration;
+
 import org.assertj.core.api.Assertions;
+import org.springframework.beans.factory.ObjectProvider;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.http.HttpLoadResult;
 import com.petromirdzhunev.cucumber.spring.context.HttpClientProvider;
+import com.petromirdzhunev.cucumber.spring.context.HttpLoadGenerator;
+import com.petromirdzhunev.cucumber.spring.context.MockHttpServerProvider;
 
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import io.qameta.allure.Allure;
 import lombok.RequiredArgsConstructor;
 import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import net.javacrumbs.jsonunit.core.Option;
@@ -19,6 +28,11 @@ import net.javacrumbs.jsonunit.core.Option;
 public class HttpClientSteps {
 
 	private final HttpClientProvider httpClientProvider;
+	// Absent when the mock HTTP server subsystem is disabled
+	private final ObjectProvider<MockHttpServerProvider> mockHttpServerProvider;
+	private final HttpLoadGenerator httpLoadGenerator;
+	// FIXME: Replace with JsonConverter once the library is released.
+	private final ObjectMapper objectMapper;
 
 	// Configurations
 	@Given("[HTTP] client creates {httpMethod} request with URL path {urlPath}")
@@ -59,7 +73,30 @@ public class HttpClientSteps {
 
 	@When("[HTTP] client sends the request")
 	public void sendRequest() {
+		// The application may call the mocked services while handling the request
+		mockHttpServerProvider.ifAvailable(MockHttpServerProvider::beforeClientRequest);
 		httpClientProvider.sendRequest();
+		Allure.addAttachment("HTTP response timing", "text/plain", "responseTimeMs=%d, timeToFirstByteMs=%s".formatted(
+				httpClientProvider.responseTime().toMillis(),
+				httpClientProvider.responseTimeToFirstByte().map(duration -> String.valueOf(duration.toMillis()))
+				                  .orElse("n/a")));
+	}
+
+	@When("[HTTP] client sends the request {int} times with concurrency {int}")
+	public void sendRequestUnderLoad(final int requestsCount, final int concurrency) {
+		sendRequestUnderLoad(requestsCount, concurrency, 0);
+	}
+
+	@When("[HTTP] client sends the request {int} times with concurrency {int} after {int} warm-up requests")
+	public void sendRequestUnderLoad(final int requestsCount, final int concurrency, final int warmUpRequestsCount) {
+		mockHttpServerProvider.ifAvailable(MockHttpServerProvider::beforeClientRequest);
+		final HttpLoadResult loadResult = httpLoadGenerator.run(requestsCount, concurrency, warmUpRequestsCount);
+		try {
+			Allure.addAttachment("HTTP load result", "application/json",
+					objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(loadResult.summary()), ".json");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize the HTTP load result", e);
+		}
 	}
 
 	// Assertions
@@ -70,6 +107,23 @@ public class HttpClientSteps {
 				.isEqualTo(expectedStatusCode);
 	}
 
+	@Then("[HTTP] client response time must be below {long} ms")
+	public void assertResponseTime(final long maxResponseTimeMillis) {
+		Assertions.assertThat(httpClientProvider.responseTime())
+		          .as("HTTP client response time is above the limit")
+		          .isLessThan(Duration.ofMillis(maxResponseTimeMillis));
+	}
+
+	@Then("[HTTP] client response time to first byte must be below {long} ms")
+	public void assertResponseTimeToFirstByte(final long maxTimeToFirstByteMillis) {
+		final Duration timeToFirstByte = httpClientProvider.responseTimeToFirstByte()
+		                                                   .orElseThrow(() -> new IllegalStateException(
+				                                                   "HTTP client doesn't measure the response time to first byte"));
+		Assertions.assertThat(timeToFirstByte)
+		          .as("HTTP client response time to first byte is above the limit")
+		          .isLessThan(Duration.ofMillis(maxTimeToFirstByteMillis));
+	}
+
 	@Then("[HTTP] client response header {key} must be {value}")
 	public void assertResponseHeader(final String key, final String value) {
 		Assertions.assertThat(httpClientProvider.responseHeader(key))
@@ -114,4 +168,31 @@ public class HttpClientSteps {
 		          .as("HTTP client response body is not empty")
 		          .isNullOrEmpty();
 	}
+
+	@Then("[HTTP] client load {latencyPercentile} latency must be below {long} ms")
+	public void assertLoadLatency(final Double percentile, final long maxLatencyMillis) {
+		final HttpLoadResult loadResult = httpLoadGenerator.lastLoadResult();
+		Assertions.assertThat(loadResult.latencies().percentile(percentile))
+		          .as("HTTP client load latency percentile %s is above the limit %s", percentile, loadResult.summary())
+		          .isLessThan(Duration.ofMillis(maxLatencyMillis));
+	}
+
+	@Then("[HTTP] client load throughput must be at least {long} requests per second")
+	public void assertLoadThroughput(final long minThroughput) {
+		final HttpLoadResult loadResult = httpLoadGenerator.lastLoadResult();
+		Assertions.assertThat(loadResult.throughput())
+		          .as("HTTP client load throughput is below the limit %s", loadResult.summary())
+		          .isGreaterThanOrEqualTo(minThroughput);
+	}
+
+	@Then("[HTTP] client load response status codes must be {statusCode}")
+	public void assertLoadStatusCodes(final String expectedStatusCode) {
+		final HttpLoadResult loadResult = httpLoadGenerator.lastLoadResult();
+		Assertions.assertThat(loadResult.failedRequests())
+		          .as("HTTP client load has failed requests %s", loadResult.summary())
+		          .isZero();
+		Assertions.assertThat(loadResult.statusCodes().keySet())
+		          .as("HTTP client load response status codes are different from the expected status code")
+		          .containsOnly(Integer.valueOf(expectedStatusCode));
+	}
 }
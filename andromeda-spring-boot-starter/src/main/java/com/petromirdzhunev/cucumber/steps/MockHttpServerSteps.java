@@ -1,9 +1,14 @@
 package com.petromirdzhunev.cucumber.steps;
 
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.petromirdzhunev.cucumber.spring.context.MockHttpServerProvider;
 
 import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -16,7 +21,7 @@ public class MockHttpServerSteps {
 
 	@Given("[HTTP] mock server receives {httpMethod} request to {urlPath}")
 	public void createRequestWithUrlPath(final String httpMethod, final String urlPath) {
-		mockHttpServerProvider.createRequestWithUrlPath(httpMethod, urlPath);
+		mockHttpServerProvider.createRequestWithUrlPath(httpMethod, absolutePath(urlPath));
 	}
 
 	@Given("[HTTP] mock server receives header {key} = {value}")
@@ -58,4 +63,62 @@ public class MockHttpServerSteps {
 	public void setResponse(final Integer statusCode, final JsonNode body) {
 		mockHttpServerProvider.setResponse(statusCode, body);
 	}
-}
\ No newline at end of file
+
+	// Faults, which must precede the response they are applied to
+	@Given("[HTTP] mock server responds after {long} ms")
+	public void setResponseDelay(final long delayMillis) {
+		mockHttpServerProvider.setResponseDelay(Duration.ofMillis(delayMillis), Duration.ZERO);
+	}
+
+	@Given("[HTTP] mock server responds after {long} ms with {long} ms jitter")
+	public void setResponseDelay(final long delayMillis, final long jitterMillis) {
+		mockHttpServerProvider.setResponseDelay(Duration.ofMillis(delayMillis), Duration.ofMillis(jitterMillis));
+	}
+
+	@Given("[HTTP] mock server sends the response body in chunks of {int} bytes")
+	public void setResponseChunks(final int chunkSize) {
+		mockHttpServerProvider.setResponseChunks(chunkSize, Duration.ZERO);
+	}
+
+	@Given("[HTTP] mock server sends the response body in chunks of {int} bytes every {long} ms")
+	public void setResponseChunks(final int chunkSize, final long chunkDelayMillis) {
+		mockHttpServerProvider.setResponseChunks(chunkSize, Duration.ofMillis(chunkDelayMillis));
+	}
+
+	@Given("[HTTP] mock server fails every {ordinal} call with {statusCode} status")
+	public void setFailEveryNthCall(final Integer nthCall, final Integer statusCode) {
+		mockHttpServerProvider.setFailEveryNthCall(nthCall, statusCode);
+	}
+
+	@Given("[HTTP] mock server resets the connection")
+	public void setConnectionReset() {
+		mockHttpServerProvider.setConnectionReset();
+	}
+
+	@Given("[HTTP] mock server expectations are registered")
+	public void flushExpectations() {
+		mockHttpServerProvider.flushExpectations();
+	}
+
+	// Assertions
+	@Then("[HTTP] mock server must have received at most {int} requests to {urlPath}")
+	public void assertReceivedRequestsAtMost(final int maxRequestsCount, final String urlPath) {
+		Assertions.assertThat(mockHttpServerProvider.receivedRequestsCount(absolutePath(urlPath)))
+		          .as("HTTP mock server received more requests than expected [urlPath=%s]", urlPath)
+		          .isLessThanOrEqualTo(maxRequestsCount);
+	}
+
+	@Then("[HTTP] mock server must have received {int} requests to {urlPath}")
+	public void assertReceivedRequests(final int expectedRequestsCount, final String urlPath) {
+		Assertions.assertThat(mockHttpServerProvider.receivedRequestsCount(absolutePath(urlPath)))
+		          .as("HTTP mock server received a different number of requests than expected [urlPath=%s]", urlPath)
+		          .isEqualTo(expectedRequestsCount);
+	}
+
+	/**
+	 * @return the URL path with a leading slash, as the mock servers receive it, e.g., /api/orders for api/orders
+	 */
+	static String absolutePath(final String urlPath) {
+		return urlPath.startsWith("/") ? urlPath : "/" + urlPath;
+	}
+}
@@ -11,4 +11,19 @@ public class DatabaseParameterTypes {
 	public String tableName(final String tableName) {
 		return tableName;
 	}
+
+	@ParameterType("[a-zA-Z0-9_]+")
+	public String columnName(final String columnName) {
+		return columnName;
+	}
+
+	@ParameterType("count|sum|avg|min|max")
+	public String aggregateFunction(final String aggregateFunction) {
+		return aggregateFunction;
+	}
+
+	@ParameterType("[^\\s]+")
+	public String filePath(final String filePath) {
+		return filePath;
+	}
 }
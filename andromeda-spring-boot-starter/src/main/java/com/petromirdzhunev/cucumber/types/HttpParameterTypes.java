@@ -12,7 +12,7 @@ public class HttpParameterTypes {
 		return httpMethod;
 	}
 
-	@ParameterType("[a-zA-Z0-9_/-]")
+	@ParameterType("/?[a-zA-Z0-9_./{}-]+")
 	public String urlPath(final String urlPath) {
 		return urlPath;
 	}
@@ -36,4 +36,24 @@ public class HttpParameterTypes {
 	public String contentType(final String contentType) {
 		return contentType;
 	}
+
+	/**
+	 * @return the percentile (between 0 and 100) of a latency percentile name, e.g., 99.9 for p999 and 100 for max
+	 */
+	@ParameterType("p50|p90|p95|p99|p999|max")
+	public Double latencyPercentile(final String latencyPercentile) {
+		return switch (latencyPercentile) {
+			case "max" -> 100.0;
+			case "p999" -> 99.9;
+			default -> Double.valueOf(latencyPercentile.substring(1));
+		};
+	}
+
+	/**
+	 * @return the number of an ordinal, e.g., 3 for 3rd
+	 */
+	@ParameterType("(\\d+)(?:st|nd|rd|th)")
+	public Integer ordinal(final String ordinal) {
+		return Integer.valueOf(ordinal);
+	}
 }
@@ -0,0 +1,37 @@
+package com.petromirdzhunev.cucumber.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ColumnValuesTest {
+
+	private final ColumnValues columnValues = new ColumnValues(new ObjectMapper());
+
+	@Test
+	void normalizesNonUtf8ByteaValuesToTheirHexFormat() {
+		final byte[] databaseValue = {0x00, (byte) 0xff, (byte) 0xc3, 0x28};
+
+		assertThat(columnValues.normalize(ColumnType.BYTEA, databaseValue)).isEqualTo("\\x00ffc328");
+		assertThat(columnValues.normalizeWritten(ColumnType.BYTEA, "\\x00FFC328")).isEqualTo("\\x00ffc328");
+	}
+
+	@Test
+	void normalizesWrittenByteaTextToTheHexFormatOfItsUtf8Bytes() {
+		final byte[] databaseValue = "café".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(columnValues.normalizeWritten(ColumnType.BYTEA, "café"))
+				.isEqualTo(columnValues.normalize(ColumnType.BYTEA, databaseValue))
+				.isEqualTo("\\x636166c3a9");
+	}
+
+	@Test
+	void distinguishesByteaValuesDifferingOnlyInInvalidUtf8Bytes() {
+		assertThat(columnValues.normalize(ColumnType.BYTEA, new byte[] {(byte) 0xfe}))
+				.isNotEqualTo(columnValues.normalize(ColumnType.BYTEA, new byte[] {(byte) 0xff}));
+	}
+}
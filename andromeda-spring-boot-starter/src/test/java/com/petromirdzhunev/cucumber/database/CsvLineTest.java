@@ -0,0 +1,37 @@
+package com.petromirdzhunev.cucumber.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CsvLineTest {
+
+	@Test
+	void keepsTheWhitespaceAroundTheValuesLikeCopy() {
+		assertThat(CsvLine.split("id, name ,price")).containsExactly("id", " name ", "price");
+	}
+
+	@Test
+	void joinsTheQuotedPartsWithTheRestOfTheValueLikeCopy() {
+		assertThat(CsvLine.split("a \"b,c\" d,e")).containsExactly("a b,c d", "e");
+	}
+
+	@Test
+	void keepsTheSeparatorsAndTheEscapedQuotesOfTheQuotedValues() {
+		assertThat(CsvLine.split("id,\"last, first\",\"say \"\"hi\"\"\"")).containsExactly("id", "last, first",
+				"say \"hi\"");
+	}
+
+	@Test
+	void keepsTheEmptyValues() {
+		assertThat(CsvLine.split("a,,")).containsExactly("a", "", "");
+	}
+
+	@Test
+	void rejectsAnUnterminatedQuotedValue() {
+		assertThatThrownBy(() -> CsvLine.split("id,\"name"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Unterminated quoted CSV value [line=id,\"name]");
+	}
+}
@@ -0,0 +1,65 @@
+package com.petromirdzhunev.cucumber.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GeneratedRowsTest {
+
+	private static final List<String> RANDOM_GENERATORS = List.of("range(1, 1000)", "oneOf(a, b, c)",
+			"timestamp(2024-01-01T00:00:00, 2024-12-31T23:59:59)", "uuid");
+
+	@Test
+	void generatesTheSameRowsForTheSameSeed() {
+		assertThat(generate(100, RANDOM_GENERATORS, 7)).isEqualTo(generate(100, RANDOM_GENERATORS, 7));
+	}
+
+	@Test
+	void generatesDifferentRowsForDifferentSeeds() {
+		assertThat(generate(100, RANDOM_GENERATORS, 7)).isNotEqualTo(generate(100, RANDOM_GENERATORS, 8));
+	}
+
+	@Test
+	void generatesTheSequencesAndTheTemplates() {
+		assertThat(generate(3, List.of("sequence", "sequence(10, 5)", "template(name-{n})", "constant(x)"), 42))
+				.containsExactly(List.of("1", "10", "name-1", "x"), List.of("2", "15", "name-2", "x"),
+						List.of("3", "20", "name-3", "x"));
+	}
+
+	@Test
+	void splitsTheArgumentsLikeACsvLineAndTrimsThem() {
+		final List<List<String>> rows = generate(200, List.of("oneOf(\"Sofia, Bulgaria\",  \"Paris, France\" )"), 42);
+
+		assertThat(rows).extracting(List::getFirst).containsOnly("Sofia, Bulgaria", "Paris, France");
+	}
+
+	@Test
+	void keepsTheRandomIntegersWithinTheRange() {
+		assertThat(generate(1_000, List.of(" range( 5 ,7 ) "), 42)).extracting(List::getFirst)
+		                                                         .containsOnly("5", "6", "7");
+	}
+
+	@Test
+	void rejectsTheMissingArguments() {
+		assertThatThrownBy(() -> new GeneratedRows(1, List.of("range(1)"), 42))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Missing generator arguments [template=range(1), expectedArguments=2]");
+	}
+
+	@Test
+	void rejectsAnUnsupportedGenerator() {
+		assertThatThrownBy(() -> new GeneratedRows(1, List.of("random(1, 2)"), 42))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Unsupported generator [template=random(1, 2)]");
+	}
+
+	private static List<List<String>> generate(final long rowsCount, final List<String> generators, final long seed) {
+		final List<List<String>> rows = new ArrayList<>();
+		new GeneratedRows(rowsCount, generators, seed).forEachRemaining(rows::add);
+		return rows;
+	}
+}
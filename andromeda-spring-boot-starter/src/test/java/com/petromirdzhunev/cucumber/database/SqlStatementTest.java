@@ -0,0 +1,50 @@
+package com.petromirdzhunev.cucumber.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatementTest {
+
+	@Test
+	void replacesTheLiteralsAndTheParameters() {
+		assertThat(SqlStatement.normalize("SELECT * FROM orders WHERE id = 42 AND name = 'O''Brien' AND total > -1.5 "
+				+ "AND status = $1"))
+				.isEqualTo("SELECT * FROM orders WHERE id = ? AND name = ? AND total > ? AND status = ?");
+	}
+
+	@Test
+	void keepsTheNumbersOfTheIdentifiers() {
+		assertThat(SqlStatement.normalize("SELECT col1, t2.x FROM table_2 t2"))
+				.isEqualTo("SELECT col1, t2.x FROM table_2 t2");
+	}
+
+	@Test
+	void collapsesTheParameterLists() {
+		assertThat(SqlStatement.normalize("SELECT * FROM items WHERE id IN (1, 2, 3)"))
+				.isEqualTo(SqlStatement.normalize("SELECT * FROM items WHERE id IN (?,?)"))
+				.isEqualTo("SELECT * FROM items WHERE id IN (?)");
+	}
+
+	@Test
+	void collapsesTheWhitespace() {
+		assertThat(SqlStatement.normalize("""
+				  SELECT id
+				  FROM   orders\tWHERE id = ?
+				"""))
+				.isEqualTo("SELECT id FROM orders WHERE id = ?");
+	}
+
+	@Test
+	void matchesTheTablesReferencedByTheStatement() {
+		final SqlStatement statement = new SqlStatement(
+				"select * from \"public\".\"orders\" o join order_items i on i.order_id = o.id", Duration.ZERO, 0);
+
+		assertThat(statement.referencesTable("orders")).isTrue();
+		assertThat(statement.referencesTable("order_items")).isTrue();
+		assertThat(statement.referencesTable("order")).isFalse();
+		assertThat(statement.referencesTable("items")).isFalse();
+	}
+}
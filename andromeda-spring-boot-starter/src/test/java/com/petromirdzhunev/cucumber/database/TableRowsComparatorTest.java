@@ -0,0 +1,78 @@
+package com.petromirdzhunev.cucumber.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TableRowsComparatorTest {
+
+	private static final List<String> COLUMN_NAMES = List.of("id", "name", "price");
+	private static final List<ColumnType> COLUMN_TYPES = List.of(ColumnType.INTEGER, ColumnType.TEXT,
+			ColumnType.DECIMAL);
+
+	@Test
+	void matchesRowsInAnyOrderByTheirTypedValues() {
+		final TableRowsComparator comparator = comparator(
+				List.of("1", "apple", "1.0"),
+				List.of("2", "pear", "2.50"));
+
+		comparator.addActualRow(List.of(2L, "pear", new BigDecimal("2.5")));
+		comparator.addActualRow(List.of(1L, "apple", new BigDecimal("1")));
+
+		assertThat(comparator.matches()).isTrue();
+	}
+
+	@Test
+	void countsTheDuplicatedRows() {
+		final TableRowsComparator comparator = comparator(
+				List.of("1", "apple", "1"),
+				List.of("1", "apple", "1"));
+
+		comparator.addActualRow(List.of(1L, "apple", BigDecimal.ONE));
+
+		assertThat(comparator.matches()).isFalse();
+		assertThat(comparator.difference("fruit")).contains("actualRows=1, expectedRows=2, missingRows=1, "
+				+ "unexpectedRows=0");
+	}
+
+	@Test
+	void matchesTheWrittenNullCellsToTheNullValues() {
+		final TableRowsComparator comparator = comparator(List.of("1", "null", "1"));
+
+		comparator.addActualRow(Arrays.asList(1L, null, BigDecimal.ONE));
+
+		assertThat(comparator.matches()).isTrue();
+	}
+
+	@Test
+	void reportsTheChangedCellsOfTheClosestUnexpectedRow() {
+		final TableRowsComparator comparator = comparator(
+				List.of("1", "apple", "1"),
+				List.of("2", "pear", "2"));
+
+		comparator.addActualRow(List.of(1L, "apple", BigDecimal.ONE));
+		comparator.addActualRow(List.of(2L, "plum", BigDecimal.TWO));
+		comparator.addActualRow(List.of(3L, "fig", BigDecimal.TEN));
+
+		assertThat(comparator.matches()).isFalse();
+		assertThat(comparator.difference("fruit"))
+				.contains("missingRows=1, unexpectedRows=2")
+				.contains("Changed rows (expected -> actual)" + System.lineSeparator() + "|id|name|price|"
+						+ System.lineSeparator() + "|2|pear -> plum|2|")
+				.contains("Unexpected rows" + System.lineSeparator() + "|id|name|price|" + System.lineSeparator()
+						+ "|3|fig|10|")
+				.doesNotContain("Missing rows");
+	}
+
+	@SafeVarargs
+	private static TableRowsComparator comparator(final List<String>... expectedRows) {
+		return new TableRowsComparator(COLUMN_NAMES, COLUMN_TYPES, List.of(expectedRows).iterator(),
+				new ColumnValues(new ObjectMapper()));
+	}
+}
@@ -0,0 +1,67 @@
+package com.petromirdzhunev.cucumber.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	@Test
+	void reportsZeroWithoutRecordedValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.count()).isZero();
+		assertThat(histogram.percentile(99)).isEqualTo(Duration.ZERO);
+		assertThat(histogram.max()).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void keepsTheSmallValuesExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Duration.ofNanos(5_000));
+		histogram.record(Duration.ofNanos(7_000));
+		histogram.record(Duration.ofNanos(100_000));
+
+		assertThat(histogram.count()).isEqualTo(3);
+		assertThat(histogram.percentile(0)).isEqualTo(Duration.ofNanos(5_000));
+		assertThat(histogram.percentile(50)).isEqualTo(Duration.ofNanos(7_000));
+		assertThat(histogram.percentile(100)).isEqualTo(Duration.ofNanos(100_000));
+	}
+
+	@Test
+	void neverUnderestimatesAPercentileByMoreThanTheBucketWidth() {
+		for (long micros = 128; micros < 10_000_000_000L; micros = micros * 3 + 1) {
+			final LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record(Duration.ofNanos(micros * 1_000));
+			histogram.record(Duration.ofNanos(micros * 2_000));
+
+			final long percentileMicros = histogram.percentile(50).toNanos() / 1_000;
+			assertThat(percentileMicros).as("micros=%d", micros)
+			                            .isBetween(micros, micros + micros / 64);
+		}
+	}
+
+	@Test
+	void capsTheHighestPercentileByTheMax() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		IntStream.rangeClosed(1, 1_000).forEach(millis -> histogram.record(Duration.ofMillis(millis)));
+
+		assertThat(histogram.count()).isEqualTo(1_000);
+		assertThat(histogram.max()).isEqualTo(Duration.ofMillis(1_000));
+		assertThat(histogram.percentile(100)).isEqualTo(Duration.ofMillis(1_000));
+		assertThat(histogram.percentile(50).toMillis()).isBetween(500L, 507L);
+		assertThat(histogram.percentile(99).toMillis()).isBetween(990L, 1_000L);
+	}
+
+	@Test
+	void recordsTheNegativeLatenciesAsZero() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Duration.ofMillis(-1));
+
+		assertThat(histogram.count()).isEqualTo(1);
+		assertThat(histogram.percentile(100)).isEqualTo(Duration.ZERO);
+	}
+}
@@ -0,0 +1,41 @@
+package com.petromirdzhunev.cucumber.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class ResponseFaultsTest {
+
+	@Test
+	void keepsTheJitteredDelayWithinTheJitter() {
+		final ResponseFaults faults = ResponseFaults.NONE.withDelay(Duration.ofMillis(100), Duration.ofMillis(20));
+
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(faults.nextDelay()).isBetween(Duration.ofMillis(80), Duration.ofMillis(120));
+		}
+	}
+
+	@Test
+	void rejectsANegativeDelay() {
+		assertThatThrownBy(() -> ResponseFaults.NONE.withDelay(Duration.ofMillis(-1), Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid response delay [delayMs=-1]");
+	}
+
+	@Test
+	void rejectsANegativeJitter() {
+		assertThatThrownBy(() -> ResponseFaults.NONE.withDelay(Duration.ZERO, Duration.ofMillis(-5)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid response delay jitter [jitterMs=-5]");
+	}
+
+	@Test
+	void rejectsANegativeChunkDelay() {
+		assertThatThrownBy(() -> ResponseFaults.NONE.withChunks(16, Duration.ofMillis(-1)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid chunk delay [chunkDelayMs=-1]");
+	}
+}
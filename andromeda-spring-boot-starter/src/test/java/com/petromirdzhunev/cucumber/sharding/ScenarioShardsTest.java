@@ -0,0 +1,72 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ScenarioShardsTest {
+
+	@Test
+	void assignsTheLongestScenariosFirstToTheShortestShard() {
+		final List<List<Long>> shards = ScenarioShards.split(List.of(1L, 7L, 3L, 5L, 4L), Long::longValue, 2);
+
+		// 7 -> 0, 5 -> 1, 4 -> 1 (9), 3 -> 0 (10), 1 -> 1 (10)
+		assertThat(shards).containsExactly(List.of(7L, 3L), List.of(1L, 5L, 4L));
+	}
+
+	@Test
+	void keepsEveryScenarioInExactlyOneShard() {
+		final List<Integer> scenarios = IntStream.range(0, 100).boxed().toList();
+
+		final List<List<Integer>> shards = ScenarioShards.split(scenarios, scenario -> scenario % 7 + 1, 4);
+
+		assertThat(shards).hasSize(4);
+		assertThat(shards.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(scenarios);
+	}
+
+	@Test
+	void balancesTheShardsWithinFourThirdsOfTheOptimum() {
+		final Random random = new Random(42);
+		final List<Long> durations = random.longs(500, 1, 10_000).boxed().toList();
+		final int shardsCount = 8;
+
+		final List<List<Long>> shards = ScenarioShards.split(durations, Long::longValue, shardsCount);
+
+		final long total = durations.stream().mapToLong(Long::longValue).sum();
+		// Neither the average shard nor the longest scenario can be beaten by the optimal split
+		final long optimumLowerBound = Math.max(total / shardsCount,
+				durations.stream().mapToLong(Long::longValue).max().orElseThrow());
+		final long longestShard = shards.stream()
+		                                .mapToLong(shard -> shard.stream().mapToLong(Long::longValue).sum())
+		                                .max()
+		                                .orElseThrow();
+		assertThat(longestShard).isLessThanOrEqualTo(optimumLowerBound * 4 / 3);
+	}
+
+	@Test
+	void splitsTheSameScenariosTheSameWay() {
+		final List<String> scenarios = List.of("a", "b", "c", "d", "e", "f");
+
+		assertThat(ScenarioShards.split(scenarios, scenario -> 10, 4))
+				.isEqualTo(ScenarioShards.split(scenarios, scenario -> 10, 4))
+				.containsExactly(List.of("a", "e"), List.of("b", "f"), List.of("c"), List.of("d"));
+	}
+
+	@Test
+	void leavesTheExtraShardsEmpty() {
+		assertThat(ScenarioShards.split(List.of("a"), scenario -> 1, 3))
+				.containsExactly(List.of("a"), List.of(), List.of());
+	}
+
+	@Test
+	void rejectsAnInvalidShardsCount() {
+		assertThatThrownBy(() -> ScenarioShards.split(List.of("a"), scenario -> 1, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid shards count [shardsCount=0]");
+	}
+}
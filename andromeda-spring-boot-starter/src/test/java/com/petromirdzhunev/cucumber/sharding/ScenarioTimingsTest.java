@@ -0,0 +1,52 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.plugin.TimingReport;
+import com.petromirdzhunev.cucumber.plugin.TimingReport.ScenarioTiming;
+
+class ScenarioTimingsTest {
+
+	@TempDir
+	private Path reportsDirectory;
+
+	@Test
+	void averagesTheDurationsOfAScenarioAcrossTheReports() throws IOException {
+		final File firstShardReport = report("first.json",
+				new ScenarioTiming("classpath:a.feature", "A", 3, "a1", 100, "PASSED"),
+				new ScenarioTiming("classpath:a.feature", "A", 6, "a2", 40, "PASSED"));
+		final File secondShardReport = report("second.json",
+				new ScenarioTiming("classpath:a.feature", "A", 3, "a1", 300, "PASSED"));
+
+		final ScenarioTimings timings = ScenarioTimings.read(List.of(firstShardReport, secondShardReport));
+
+		assertThat(timings.durationMs("A", "a1")).isEqualTo(OptionalLong.of(200));
+		assertThat(timings.durationMs("A", "a2")).isEqualTo(OptionalLong.of(40));
+		assertThat(timings.durationMs("B", "a1")).isEmpty();
+		assertThat(timings.averageDurationMs()).isEqualTo(120);
+	}
+
+	@Test
+	void skipsTheMissingReports() {
+		final ScenarioTimings timings = ScenarioTimings.read(List.of(reportsDirectory.resolve("missing.json").toFile()));
+
+		assertThat(timings.durationMs("A", "a1")).isEmpty();
+		assertThat(timings.averageDurationMs()).isEqualTo(1);
+	}
+
+	private File report(final String fileName, final ScenarioTiming... scenarios) throws IOException {
+		final File reportFile = reportsDirectory.resolve(fileName).toFile();
+		new ObjectMapper().writeValue(reportFile, new TimingReport(List.of(), List.of(scenarios)));
+		return reportFile;
+	}
+}
@@ -0,0 +1,83 @@
+package com.petromirdzhunev.cucumber.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petromirdzhunev.cucumber.plugin.TimingReport;
+import com.petromirdzhunev.cucumber.plugin.TimingReport.ScenarioTiming;
+
+class ShardingPostDiscoveryFilterTest {
+
+	private static final List<String> ALL_SCENARIOS = List.of("Slow scenario", "Fast scenario",
+			"Outline scenario 1", "Outline scenario 2", "Medium scenario", "New scenario");
+
+	@TempDir
+	private Path reportsDirectory;
+
+	@Test
+	void runsAllTheScenariosWhenNotSharded() {
+		assertThat(discoveredScenarios(new ShardConfiguration(0, 1, List.of()))).isEqualTo(ALL_SCENARIOS);
+	}
+
+	@Test
+	void splitsTheScenariosByTheirHistoricalDurations() throws IOException {
+		final File report = reportsDirectory.resolve("timings.json").toFile();
+		new ObjectMapper().writeValue(report, new TimingReport(List.of(), List.of(
+				new ScenarioTiming("classpath:sharding/first.feature", "First", 3, "Slow scenario", 1_000, "PASSED"),
+				new ScenarioTiming("classpath:sharding/first.feature", "First", 6, "Fast scenario", 10, "PASSED"),
+				new ScenarioTiming("classpath:sharding/first.feature", "First", 15, "Outline scenario 1", 10,
+						"PASSED"),
+				new ScenarioTiming("classpath:sharding/first.feature", "First", 16, "Outline scenario 2", 10,
+						"PASSED"),
+				new ScenarioTiming("classpath:sharding/second.feature", "Second", 3, "Medium scenario", 500,
+						"PASSED"))));
+
+		final List<List<String>> shards = IntStream.range(0, 2)
+		                                           .mapToObj(shardIndex -> discoveredScenarios(
+				                                           new ShardConfiguration(shardIndex, 2, List.of(report))))
+		                                           .toList();
+
+		// The new scenario is estimated by the average duration (306ms), so it joins the medium one
+		assertThat(shards).containsExactly(
+				List.of("Slow scenario"),
+				List.of("Fast scenario", "Outline scenario 1", "Outline scenario 2", "Medium scenario",
+						"New scenario"));
+	}
+
+	private static List<String> discoveredScenarios(final ShardConfiguration configuration) {
+		final LauncherConfig launcherConfig = LauncherConfig.builder()
+		                                                    .enablePostDiscoveryFilterAutoRegistration(false)
+		                                                    .addPostDiscoveryFilters(
+				                                                    new ShardingPostDiscoveryFilter(configuration))
+		                                                    .build();
+		final LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder
+				.request()
+				.selectors(selectClasspathResource("sharding/first.feature"),
+						selectClasspathResource("sharding/second.feature"))
+				.configurationParameter("cucumber.junit-platform.naming-strategy.short.example-name", "pickle")
+				.build();
+		final TestPlan testPlan = LauncherFactory.create(launcherConfig).discover(request);
+		return testPlan.getRoots()
+		               .stream()
+		               .flatMap(root -> testPlan.getDescendants(root).stream())
+		               .filter(TestIdentifier::isTest)
+		               .map(TestIdentifier::getDisplayName)
+		               .toList();
+	}
+}
@@ -0,0 +1,84 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PostgreSQLQueryPlannerTest {
+
+	@Test
+	void numbersTheJdbcParameters() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		final int parametersCount = PostgreSQLQueryPlanner.replaceJdbcParameters(
+				"SELECT * FROM orders WHERE id = ? AND status IN (?, ?)", parameterizedSql);
+
+		assertThat(parametersCount).isEqualTo(3);
+		assertThat(parameterizedSql).hasToString("SELECT * FROM orders WHERE id = $1 AND status IN ($2, $3)");
+	}
+
+	@Test
+	void keepsTheQuestionMarksOfTheStringLiterals() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		final int parametersCount = PostgreSQLQueryPlanner.replaceJdbcParameters(
+				"SELECT * FROM faq WHERE question = 'Why?' AND answer = 'It''s ?' AND id = ?", parameterizedSql);
+
+		assertThat(parametersCount).isEqualTo(1);
+		assertThat(parameterizedSql)
+				.hasToString("SELECT * FROM faq WHERE question = 'Why?' AND answer = 'It''s ?' AND id = $1");
+	}
+
+	@Test
+	void unescapesTheQuestionMarkOperators() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		final int parametersCount = PostgreSQLQueryPlanner.replaceJdbcParameters(
+				"SELECT * FROM documents WHERE tags ?? ? AND labels ??| ?", parameterizedSql);
+
+		assertThat(parametersCount).isEqualTo(2);
+		assertThat(parameterizedSql).hasToString("SELECT * FROM documents WHERE tags ? $1 AND labels ?| $2");
+	}
+
+	@Test
+	void leavesTheStatementsWithoutParametersUnchanged() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		assertThat(PostgreSQLQueryPlanner.replaceJdbcParameters("SELECT 1", parameterizedSql)).isZero();
+		assertThat(parameterizedSql).hasToString("SELECT 1");
+	}
+
+	@Test
+	void keepsTheQuestionMarksOfTheQuotedIdentifiersAndTheComments() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		final int parametersCount = PostgreSQLQueryPlanner.replaceJdbcParameters("""
+				SELECT "why?" FROM faq -- where?
+				WHERE /* a /* nested? */ comment? */ id = ?""", parameterizedSql);
+
+		assertThat(parametersCount).isEqualTo(1);
+		assertThat(parameterizedSql).hasToString("""
+				SELECT "why?" FROM faq -- where?
+				WHERE /* a /* nested? */ comment? */ id = $1""");
+	}
+
+	@Test
+	void keepsTheQuestionMarksOfTheDollarQuotedStrings() {
+		final StringBuilder parameterizedSql = new StringBuilder();
+
+		final int parametersCount = PostgreSQLQueryPlanner.replaceJdbcParameters(
+				"SELECT $$Why?$$, $tag$It's ?$tag$ FROM faq WHERE id = ?", parameterizedSql);
+
+		assertThat(parametersCount).isEqualTo(1);
+		assertThat(parameterizedSql).hasToString("SELECT $$Why?$$, $tag$It's ?$tag$ FROM faq WHERE id = $1");
+	}
+
+	@Test
+	void explainsOnlyTheSingleSelectStatements() {
+		assertThat(PostgreSQLQueryPlanner.isSingleSelect("/* orders */ select * from orders where id = ?;")).isTrue();
+		assertThat(PostgreSQLQueryPlanner.isSingleSelect("SELECT ';' FROM orders -- ; DELETE")).isTrue();
+		assertThat(PostgreSQLQueryPlanner.isSingleSelect("UPDATE orders SET status = ? WHERE id = ?")).isFalse();
+		assertThat(PostgreSQLQueryPlanner.isSingleSelect("SELECT * FROM orders; SELECT * FROM items")).isFalse();
+		assertThat(PostgreSQLQueryPlanner.isSingleSelect("selected_orders")).isFalse();
+	}
+}
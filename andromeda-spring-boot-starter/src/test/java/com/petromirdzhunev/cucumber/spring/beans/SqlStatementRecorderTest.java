@@ -0,0 +1,57 @@
+package com.petromirdzhunev.cucumber.spring.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.petromirdzhunev.cucumber.database.SqlStatement;
+
+class SqlStatementRecorderTest {
+
+	private final SqlStatementRecorder recorder = new SqlStatementRecorder();
+
+	@Test
+	void seesTheStatementsRecordedSinceTheScenarioStarted() {
+		recorder.record(statement("SELECT 1"));
+		recorder.startScenario();
+		recorder.record(statement("SELECT 2"));
+
+		assertThat(sqls(recorder.statements())).containsExactly("SELECT 2");
+	}
+
+	@Test
+	void keepsTheStatementsOfAScenarioStillRunningOnAnotherThread() {
+		recorder.startScenario();
+		recorder.record(statement("SELECT 1"));
+
+		// Another scenario starts and finishes on another thread meanwhile
+		CompletableFuture.runAsync(() -> {
+			recorder.startScenario();
+			recorder.record(statement("SELECT 2"));
+			recorder.finishScenario();
+		}).join();
+
+		assertThat(sqls(recorder.statements())).containsExactly("SELECT 1", "SELECT 2");
+	}
+
+	@Test
+	void dropsTheStatementsNoRunningScenarioSees() {
+		recorder.startScenario();
+		recorder.record(statement("SELECT 1"));
+		recorder.finishScenario();
+
+		assertThat(recorder.statements()).isEmpty();
+	}
+
+	private static SqlStatement statement(final String sql) {
+		return new SqlStatement(sql, Duration.ZERO, 0);
+	}
+
+	private static List<String> sqls(final List<SqlStatement> statements) {
+		return statements.stream().map(SqlStatement::sql).toList();
+	}
+}
@@ -0,0 +1,68 @@
+package com.petromirdzhunev.cucumber.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.petromirdzhunev.cucumber.types.HttpParameterTypes;
+
+import io.cucumber.cucumberexpressions.Argument;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterType;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.java.en.Then;
+
+class MockHttpServerStepsTest {
+
+	@Test
+	void matchesTheReceivedRequestsStepsWithAMultiSegmentPath() throws NoSuchMethodException {
+		final Expression expression = stepExpression("assertReceivedRequests", int.class, String.class);
+
+		final List<Argument<?>> arguments = expression.match("[HTTP] mock server must have received 2 requests to "
+				+ "/api/v1/orders/{id}/items.json");
+
+		assertThat(arguments).extracting(argument -> (Object) argument.getValue())
+		                     .containsExactly(2, "/api/v1/orders/{id}/items.json");
+	}
+
+	@Test
+	void matchesTheReceivedRequestsAtMostStepWithARelativePath() throws NoSuchMethodException {
+		final Expression expression = stepExpression("assertReceivedRequestsAtMost", int.class, String.class);
+
+		final List<Argument<?>> arguments = expression.match("[HTTP] mock server must have received at most 3 "
+				+ "requests to api/orders");
+
+		assertThat(arguments).extracting(argument -> (Object) argument.getValue()).containsExactly(3, "api/orders");
+	}
+
+	@Test
+	void doesNotMatchAPathWithWhitespace() throws NoSuchMethodException {
+		final Expression expression = stepExpression("assertReceivedRequests", int.class, String.class);
+
+		assertThat(expression.match("[HTTP] mock server must have received 2 requests to /api/orders now")).isNull();
+	}
+
+	@Test
+	void prefixesARelativePathWithASlash() {
+		assertThat(MockHttpServerSteps.absolutePath("api/orders")).isEqualTo("/api/orders");
+		assertThat(MockHttpServerSteps.absolutePath("/api/orders")).isEqualTo("/api/orders");
+	}
+
+	private static Expression stepExpression(final String stepName, final Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		final ParameterTypeRegistry registry = new ParameterTypeRegistry(Locale.ENGLISH);
+		final HttpParameterTypes httpParameterTypes = new HttpParameterTypes();
+		final String urlPathRegex = HttpParameterTypes.class.getMethod("urlPath", String.class)
+		                                                    .getAnnotation(io.cucumber.java.ParameterType.class)
+		                                                    .value();
+		registry.defineParameterType(new ParameterType<>("urlPath", urlPathRegex, String.class,
+				httpParameterTypes::urlPath));
+		final Method step = MockHttpServerSteps.class.getMethod(stepName, parameterTypes);
+		return new ExpressionFactory(registry).createExpression(step.getAnnotation(Then.class).value());
+	}
+}
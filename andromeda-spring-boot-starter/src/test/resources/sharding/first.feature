@@ -0,0 +1,15 @@
+Feature: First
+
+  Scenario: Slow scenario
+    Given a step
+
+  Scenario: Fast scenario
+    Given a step
+
+  Scenario Outline: Outline scenario <value>
+    Given a step with <value>
+
+    Examples:
+      | value |
+      | 1     |
+      | 2     |
@@ -0,0 +1,7 @@
+Feature: Second
+
+  Scenario: Medium scenario
+    Given a step
+
+  Scenario: New scenario
+    Given a step